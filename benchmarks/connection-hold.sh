@@ -0,0 +1,53 @@
+#!/usr/bin/env bash
+# Compares how long each request keeps a JDBC connection checked out with open-session-in-view on and off.
+#
+# For each mode the script empties the buses table, starts the packaged application, runs benchmarks/k6/buses.js
+# against it and reads the Hikari connection usage timer: the mean and maximum time a connection was held per
+# checkout, and the total hold time divided by the number of HTTP requests served.
+#
+# Requirements: docker (compose), k6 and jq. Tunables: VUS (default 50), DURATION (default 30s).
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+PORT=8091
+RESULTS=target/benchmarks
+VUS=${VUS:-50}
+DURATION=${DURATION:-30s}
+mkdir -p "$RESULTS"
+
+docker compose up -d --wait postgres
+./mvnw -q -DskipTests package
+JAR=$(ls target/matias-aliaga-*.jar | grep -v '\.original$' | head -n 1)
+
+metric() {
+  local name=$1 statistic=$2
+  curl -sf "http://localhost:$PORT/actuator/metrics/$name" | jq -r --arg s "$statistic" '.measurements[] | select(.statistic == $s) | .value'
+}
+
+run() {
+  local mode=$1 openInView=$2
+  docker compose exec -T postgres psql -q -U postgres -d civa -c 'TRUNCATE TABLE buses' >/dev/null 2>&1 || true
+
+  # Admission control is disabled so every request of the load test reaches the database
+  java -jar "$JAR" --spring.jpa.open-in-view="$openInView" --civa.admission.enabled=false >"$RESULTS/hold-$mode.log" 2>&1 &
+  local pid=$!
+  trap "kill $pid 2>/dev/null || true" EXIT
+  until curl -sf "http://localhost:$PORT/api/v1/bus-brands" >/dev/null; do sleep 1; done
+
+  k6 run --quiet -e BASE_URL="http://localhost:$PORT" -e VUS="$VUS" -e DURATION="$DURATION" benchmarks/k6/buses.js >/dev/null
+
+  local checkouts total max requests
+  checkouts=$(metric hikaricp.connections.usage COUNT)
+  total=$(metric hikaricp.connections.usage TOTAL_TIME)
+  max=$(metric hikaricp.connections.usage MAX)
+  requests=$(metric http.server.requests COUNT)
+  jq -rn --arg m "$mode" --argjson c "$checkouts" --argjson t "$total" --argjson x "$max" --argjson r "$requests" \
+    '"\($m)\t\($r | floor)\t\($c | floor)\t\($t / $c * 100000 | floor / 100) ms\t\($x * 100000 | floor / 100) ms\t\($t / $r * 100000 | floor / 100) ms"'
+
+  kill "$pid"; wait "$pid" 2>/dev/null || true
+  trap - EXIT
+}
+
+echo -e "mode\trequests\tcheckouts\tmean hold\tmax hold\thold per request"
+run open-in-view true
+run transactional false
@@ -0,0 +1,85 @@
+// Load test for the bus lookup and creation endpoints.
+// Runs two scenarios side by side so both hot paths are measured under the same load:
+//   lookup: GET /api/v1/buses/{id} over a set of buses created during setup
+//   create: POST /api/v1/buses with a unique bus number and license plate per iteration
+// Environment: BASE_URL (default http://localhost:8091), VUS (default 500), DURATION (default 60s).
+import http from 'k6/http';
+import exec from 'k6/execution';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8091';
+const VUS = parseInt(__ENV.VUS || '500');
+const DURATION = __ENV.DURATION || '60s';
+const SEEDED_BUSES = 500;
+const BRANDS = ['Volvo', 'Scania', 'Mercedes-Benz', 'Irizar', 'Marcopolo'];
+// Bus numbers are limited to 1000-9999: the first block is used by setup, the rest by the create scenario.
+const FIRST_CREATED_BUS_NUMBER = 1000 + SEEDED_BUSES;
+const MAX_CREATED_BUSES = 9999 - FIRST_CREATED_BUS_NUMBER;
+
+export const options = {
+    scenarios: {
+        lookup: {
+            executor: 'constant-vus',
+            exec: 'lookup',
+            vus: VUS,
+            duration: DURATION,
+        },
+        create: {
+            executor: 'shared-iterations',
+            exec: 'create',
+            vus: Math.max(1, Math.floor(VUS / 10)),
+            iterations: MAX_CREATED_BUSES,
+            maxDuration: DURATION,
+        },
+    },
+    // Thresholds are lenient on purpose: they only make k6 report per-scenario metrics in the summary.
+    thresholds: {
+        'http_req_duration{scenario:lookup}': ['p(99)<60000'],
+        'http_req_duration{scenario:create}': ['p(99)<60000'],
+        'http_reqs{scenario:lookup}': ['count>=0'],
+        'http_reqs{scenario:create}': ['count>=0'],
+    },
+};
+
+// Builds a valid license plate (letter, digit, letter, hyphen, three digits) from a number.
+function licensePlate(n) {
+    const letters = 'ABCDEFGHIJKLMNOPQRSTUVWXYZ';
+    const digits = String(n % 1000).padStart(3, '0');
+    const rest = Math.floor(n / 1000);
+    return letters[rest % 26] + (Math.floor(rest / 26) % 10) + letters[Math.floor(rest / 260) % 26] + '-' + digits;
+}
+
+function bus(n) {
+    return {
+        busNumber: 1000 + n,
+        licensePlate: licensePlate(n),
+        characteristics: 'Benchmark bus ' + n,
+        brand: BRANDS[n % BRANDS.length],
+        isActive: n % 7 !== 0,
+    };
+}
+
+export function setup() {
+    const buses = [];
+    for (let n = 0; n < SEEDED_BUSES; n++) buses.push(bus(n));
+    const response = http.post(`${BASE_URL}/api/v1/buses/batch`, JSON.stringify(buses), {
+        headers: { 'Content-Type': 'application/json' },
+    });
+    const ids = response.json('results').map((result) => result.id).filter((id) => id !== null);
+    if (ids.length === 0) throw new Error('Setup could not create any bus: ' + response.body);
+    return { ids };
+}
+
+export function lookup(data) {
+    const id = data.ids[Math.floor(Math.random() * data.ids.length)];
+    const response = http.get(`${BASE_URL}/api/v1/buses/${id}`);
+    check(response, { 'lookup status is 200': (r) => r.status === 200 });
+}
+
+export function create() {
+    const n = FIRST_CREATED_BUS_NUMBER - 1000 + exec.scenario.iterationInTest;
+    const response = http.post(`${BASE_URL}/api/v1/buses`, JSON.stringify(bus(n)), {
+        headers: { 'Content-Type': 'application/json' },
+    });
+    check(response, { 'create status is 201': (r) => r.status === 201 });
+}
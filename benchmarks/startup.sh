@@ -0,0 +1,51 @@
+#!/usr/bin/env bash
+# Compares the time to first request of the default build and the fast-startup build (Spring AOT + AppCDS).
+#
+# For each variant the script starts the application, polls GET /api/v1/bus-brands until it answers
+# and prints the milliseconds from launch to the first successful response, together with the time
+# the application itself logged (FirstRequestTimer). Each variant is started RUNS times.
+#
+# Requirements: docker (compose) and curl. Tunables: RUNS.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+PORT=8091
+RUNS=${RUNS:-3}
+RESULTS=target/benchmarks
+mkdir -p "$RESULTS"
+
+docker compose up -d --wait postgres
+
+./mvnw -q -DskipTests package
+mkdir -p "$RESULTS/default"
+cp "$(ls target/matias-aliaga-*.jar | grep -v '\.original$' | head -n 1)" "$RESULTS/default/application.jar"
+
+# Processes the application ahead of time, extracts it and records the CDS archive in target/application
+./mvnw -q -Pfast-startup -DskipTests package
+
+now_ms() { date +%s%3N; }
+
+measure() {
+  local variant=$1 run=$2; shift 2
+  local start pid
+  start=$(now_ms)
+  "$@" >"$RESULTS/startup-$variant-$run.log" 2>&1 &
+  pid=$!
+  trap "kill $pid 2>/dev/null || true" EXIT
+  until curl -sf "http://localhost:$PORT/api/v1/bus-brands" >/dev/null; do sleep 0.05; done
+  local elapsed=$(( $(now_ms) - start ))
+  kill "$pid"; wait "$pid" 2>/dev/null || true
+  trap - EXIT
+  local logged
+  logged=$(grep -o 'served [0-9]* ms' "$RESULTS/startup-$variant-$run.log" | grep -o '[0-9]*' || echo '?')
+  echo -e "$variant\t$run\t$elapsed ms\t$logged ms"
+}
+
+echo -e "variant\trun\tfirst response\tlogged by the application"
+for run in $(seq 1 "$RUNS"); do
+  measure default "$run" java -jar "$RESULTS/default/application.jar"
+done
+for run in $(seq 1 "$RUNS"); do
+  measure fast-startup "$run" bash -c 'cd target/application && exec java -XX:SharedArchiveFile=application.jsa \
+    -Dspring.aot.enabled=true -jar matias-aliaga-*.jar --spring.profiles.active=fast-startup'
+done
@@ -0,0 +1,53 @@
+#!/usr/bin/env bash
+# Compares platform threads and virtual threads for GET /api/v1/buses/{id} and POST /api/v1/buses.
+#
+# For each mode the script empties the buses table, starts the packaged application,
+# runs benchmarks/k6/buses.js against it and prints throughput and p99 per endpoint.
+# Virtual-thread runs also report how many times a virtual thread was pinned to its carrier.
+#
+# Requirements: docker (compose), k6 and jq. Tunables: VUS, DURATION, CIVA_DB_POOL_SIZE.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+PORT=8091
+RESULTS=target/benchmarks
+mkdir -p "$RESULTS"
+
+docker compose up -d --wait postgres
+./mvnw -q -DskipTests package
+JAR=$(ls target/matias-aliaga-*.jar | grep -v '\.original$' | head -n 1)
+
+run() {
+  local mode=$1 profile=$2
+  docker compose exec -T postgres psql -q -U postgres -d civa -c 'TRUNCATE TABLE buses' >/dev/null 2>&1 || true
+
+  java -Djdk.tracePinnedThreads=short -jar "$JAR" --spring.profiles.active="$profile" --civa.admission.enabled=false >"$RESULTS/$mode.log" 2>&1 &
+  local pid=$!
+  trap "kill $pid 2>/dev/null || true" EXIT
+  until curl -sf "http://localhost:$PORT/api/v1/bus-brands" >/dev/null; do sleep 1; done
+
+  k6 run --quiet --summary-trend-stats "avg,p(90),p(99),max" \
+    --summary-export "$RESULTS/$mode.json" -e BASE_URL="http://localhost:$PORT" benchmarks/k6/buses.js
+
+  kill "$pid"; wait "$pid" 2>/dev/null || true
+  trap - EXIT
+}
+
+report() {
+  local mode=$1
+  for scenario in lookup create; do
+    jq -r --arg s "$scenario" --arg m "$mode" \
+      '"\($m)\t\($s)\t\(.metrics["http_reqs{scenario:\($s)}"].rate | floor) req/s\tp99 \(.metrics["http_req_duration{scenario:\($s)}"]["p(99)"] | . * 100 | floor / 100) ms"' \
+      "$RESULTS/$mode.json"
+  done
+  if [[ $mode == virtual ]]; then
+    echo -e "$mode\tpinned virtual threads: $(grep -c '<== monitors' "$RESULTS/$mode.log" || true)"
+  fi
+}
+
+run platform default
+run virtual virtual-threads
+
+echo -e "mode\tendpoint\tthroughput\tlatency"
+report platform
+report virtual
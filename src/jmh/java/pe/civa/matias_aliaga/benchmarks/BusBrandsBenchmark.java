@@ -0,0 +1,27 @@
+package pe.civa.matias_aliaga.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import pe.civa.matias_aliaga.domain.model.valueobjects.BusBrands;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for BusBrands.fromString, called for every bus created with a brand name.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BusBrandsBenchmark {
+
+    /** Brand names as clients usually send them */
+    @Param({"VOLVO", "Mercedes-Benz", " king long "})
+    private String name;
+
+    @Benchmark
+    public BusBrands fromString() {
+        return BusBrands.fromString(name);
+    }
+}
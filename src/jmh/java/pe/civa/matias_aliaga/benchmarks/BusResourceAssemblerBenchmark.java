@@ -0,0 +1,45 @@
+package pe.civa.matias_aliaga.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import pe.civa.matias_aliaga.domain.model.entities.Bus;
+import pe.civa.matias_aliaga.domain.model.entities.BusBrand;
+import pe.civa.matias_aliaga.domain.model.projections.BusSummary;
+import pe.civa.matias_aliaga.domain.model.valueobjects.BusBrands;
+import pe.civa.matias_aliaga.domain.model.valueobjects.LicensePlate;
+import pe.civa.matias_aliaga.interfaces.rest.resources.BusResource;
+import pe.civa.matias_aliaga.interfaces.rest.transform.BusResourceFromEntityAssembler;
+import pe.civa.matias_aliaga.interfaces.rest.transform.BusResourceFromSummaryAssembler;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for the conversion of buses into BusResource, done for every bus returned by the API.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BusResourceAssemblerBenchmark {
+
+    private Bus bus;
+    private BusSummary summary;
+
+    @Setup
+    public void setUp() {
+        bus = new Bus(1234, new LicensePlate("A1B-123"), "Air conditioning, WiFi", true, new BusBrand(1L, BusBrands.VOLVO));
+        summary = new BusSummary(1L, "A1B-123", BusBrands.VOLVO, "Air conditioning, WiFi", 1234, true, new Date(), new Date());
+    }
+
+    @Benchmark
+    public BusResource fromEntity() {
+        return BusResourceFromEntityAssembler.toResource(bus);
+    }
+
+    @Benchmark
+    public BusResource fromSummary() {
+        return BusResourceFromSummaryAssembler.toResource(summary);
+    }
+}
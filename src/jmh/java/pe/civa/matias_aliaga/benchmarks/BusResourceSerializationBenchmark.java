@@ -0,0 +1,46 @@
+package pe.civa.matias_aliaga.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import pe.civa.matias_aliaga.interfaces.rest.resources.BusResource;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmark for the JSON serialisation of bus listings at several fleet sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BusResourceSerializationBenchmark {
+
+    /** Number of buses in the serialised list */
+    @Param({"100", "10000", "100000"})
+    private int fleetSize;
+
+    private ObjectMapper objectMapper;
+    private List<BusResource> buses;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        var createdAt = new Date();
+        buses = IntStream.range(0, fleetSize)
+                .mapToObj(i -> new BusResource((long) i, "A1B-" + String.format("%03d", i % 1000), "VOLVO",
+                        "Air conditioning, WiFi, TV", 1000 + i % 9000, i % 7 != 0, createdAt))
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(buses);
+    }
+}
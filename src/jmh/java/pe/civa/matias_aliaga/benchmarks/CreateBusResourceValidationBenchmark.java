@@ -0,0 +1,51 @@
+package pe.civa.matias_aliaga.benchmarks;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.*;
+import pe.civa.matias_aliaga.interfaces.rest.resources.CreateBusResource;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for the Bean Validation of CreateBusResource, done for every create request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CreateBusResourceValidationBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private CreateBusResource validResource;
+    private CreateBusResource invalidResource;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        validResource = new CreateBusResource(1234, "A1B-123", "Air conditioning, WiFi", "Volvo", true);
+        invalidResource = new CreateBusResource(0, "AB1-123", "", "", true);
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CreateBusResource>> validResource() {
+        return validator.validate(validResource);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CreateBusResource>> invalidResource() {
+        return validator.validate(invalidResource);
+    }
+}
@@ -0,0 +1,61 @@
+package pe.civa.matias_aliaga.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import pe.civa.matias_aliaga.domain.model.valueobjects.LicensePlate;
+import pe.civa.matias_aliaga.infrastructure.persistence.inmemory.LicensePlateIndex;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for the construction of LicensePlate value objects,
+ * done for every bus created and every plate received from a client,
+ * and for the license plate index lookups used by duplicate checks and plate searches.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LicensePlateBenchmark {
+
+    /** A plate matching the A1A-123 format */
+    private String validPlate = "A1B-123";
+    /** A plate rejected by the validation */
+    private String invalidPlate = "AB1-123";
+    /** Index holding 100000 plates, the repository is never used */
+    private LicensePlateIndex index;
+
+    @Setup
+    public void setUp() {
+        index = new LicensePlateIndex(null);
+        for (int busId = 0; busId < 100_000; busId++) {
+            index.put(busId * 67 % LicensePlate.CARDINALITY, busId);
+        }
+    }
+
+    @Benchmark
+    public LicensePlate validPlate() {
+        return new LicensePlate(validPlate);
+    }
+
+    @Benchmark
+    public void invalidPlate(Blackhole blackhole) {
+        try {
+            blackhole.consume(new LicensePlate(invalidPlate));
+        } catch (IllegalArgumentException ex) {
+            blackhole.consume(ex);
+        }
+    }
+
+    @Benchmark
+    public int encodePlate() {
+        return LicensePlate.encode(validPlate);
+    }
+
+    @Benchmark
+    public boolean indexLookup() {
+        return index.contains(LicensePlate.encode(validPlate));
+    }
+}
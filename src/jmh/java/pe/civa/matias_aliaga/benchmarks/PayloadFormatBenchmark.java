@@ -0,0 +1,101 @@
+package pe.civa.matias_aliaga.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import pe.civa.matias_aliaga.interfaces.rest.resources.BusResource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Benchmark comparing the payload formats offered through content negotiation for bus listings.
+ * Reports the serialisation time per listing, and the bytes on the wire both raw and gzip-compressed
+ * through the payloadBytes and compressedBytes secondary results.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PayloadFormatBenchmark {
+
+    /** Number of buses in the serialised list */
+    @Param({"10000", "100000"})
+    private int fleetSize;
+
+    /** Format the list is serialised in */
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    private ObjectMapper objectMapper;
+    private List<BusResource> buses;
+
+    /**
+     * Sizes of the last serialised listing, reported next to the timings.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class WireSize {
+        public long payloadBytes;
+        public long compressedBytes;
+    }
+
+    @Setup
+    public void setUp() {
+        var builder = Jackson2ObjectMapperBuilder.json();
+        objectMapper = switch (format) {
+            case "cbor" -> builder.factory(new CBORFactory()).build();
+            case "smile" -> builder.factory(new SmileFactory()).build();
+            default -> builder.build();
+        };
+        var createdAt = new Date();
+        buses = IntStream.range(0, fleetSize)
+                .mapToObj(i -> new BusResource((long) i, "A1B-" + String.format("%03d", i % 1000), "VOLVO",
+                        "Air conditioning, WiFi, TV", 1000 + i % 9000, i % 7 != 0, createdAt))
+                .toList();
+    }
+
+    @Benchmark
+    public long serialize(WireSize wireSize) throws IOException {
+        var counter = new CountingOutputStream();
+        objectMapper.writeValue(counter, buses);
+        wireSize.payloadBytes = counter.count;
+        return counter.count;
+    }
+
+    @Benchmark
+    public long serializeCompressed(WireSize wireSize) throws IOException {
+        var counter = new CountingOutputStream();
+        try (var gzip = new GZIPOutputStream(counter, 8192)) {
+            objectMapper.writeValue(gzip, buses);
+        }
+        wireSize.compressedBytes = counter.count;
+        return counter.count;
+    }
+
+    /**
+     * Output stream discarding its content and counting the bytes written to it.
+     */
+    private static final class CountingOutputStream extends OutputStream {
+        long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -3,11 +3,8 @@ package pe.civa.matias_aliaga.application.internal.commandservices;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import pe.civa.matias_aliaga.domain.model.commands.SeedBusBrandsCommand;
-import pe.civa.matias_aliaga.domain.model.entities.BusBrand;
 import pe.civa.matias_aliaga.domain.model.valueobjects.BusBrands;
-import pe.civa.matias_aliaga.infrastructure.persistence.jpa.repositories.BusBrandRepository;
-
-import java.util.Arrays;
+import pe.civa.matias_aliaga.shared.infrastructure.persistence.referencedata.ReferenceDataSynchronizer;
 
 /**
  * Implementation of the BusBrandCommandService interface.
@@ -16,31 +13,26 @@ import java.util.Arrays;
 @Service
 public class BusBrandCommandServiceImpl implements pe.civa.matias_aliaga.domain.services.BusBrandCommandService {
 
-    /** Repository for bus brand data access operations */
-    private final BusBrandRepository repository;
+    /** Synchronizer of the reference data tables with their enums */
+    private final ReferenceDataSynchronizer referenceDataSynchronizer;
 
     /**
      * Constructor for BusBrandCommandServiceImpl.
-     * @param repository The bus brand repository for data access
+     * @param referenceDataSynchronizer The synchronizer of the reference data tables
      */
     @Autowired
-    public BusBrandCommandServiceImpl(BusBrandRepository repository) {
-        this.repository = repository;
+    public BusBrandCommandServiceImpl(ReferenceDataSynchronizer referenceDataSynchronizer) {
+        this.referenceDataSynchronizer = referenceDataSynchronizer;
     }
 
     /**
      * Handles the seeding of all bus brands into the database.
-     * Iterates through all available bus brand enums and creates database entries
-     * for those that don't already exist.
+     * Compares the bus brand enums with the bus_brands table in one query and inserts
+     * the missing ones in one statement, so it is safe to run from many instances at once.
      * @param command The seed bus brands command
      */
     @Override
     public void handle(SeedBusBrandsCommand command) {
-        Arrays.stream(BusBrands.values())
-                .forEach(busBrand -> {
-                    if (!repository.existsBusBrandByName(busBrand)) {
-                        repository.save(new BusBrand(BusBrands.valueOf(busBrand.name())));
-                    }
-                });
+        referenceDataSynchronizer.synchronize("bus_brands", "name", BusBrands.class);
     }
 }
@@ -1,58 +1,285 @@
 package pe.civa.matias_aliaga.application.internal.commandservices;
 
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import pe.civa.matias_aliaga.domain.model.commands.CreateBusCommand;
+import pe.civa.matias_aliaga.domain.model.commands.CreateBusesCommand;
+import pe.civa.matias_aliaga.domain.model.commands.ImportBusesCommand;
 import pe.civa.matias_aliaga.domain.model.entities.Bus;
+import pe.civa.matias_aliaga.domain.model.entities.BusBrand;
+import pe.civa.matias_aliaga.domain.model.events.BusCreatedEvent;
+import pe.civa.matias_aliaga.domain.model.events.BusesImportedEvent;
+import pe.civa.matias_aliaga.domain.model.exceptions.BusAlreadyExistsException;
+import pe.civa.matias_aliaga.domain.model.exceptions.BusImportRejectedException;
 import pe.civa.matias_aliaga.domain.model.valueobjects.BusBrands;
+import pe.civa.matias_aliaga.domain.model.valueobjects.BusCreationResult;
 import pe.civa.matias_aliaga.domain.model.valueobjects.LicensePlate;
 import pe.civa.matias_aliaga.domain.services.BusCommandService;
-import pe.civa.matias_aliaga.infrastructure.persistence.jpa.repositories.BusBrandRepository;
+import pe.civa.matias_aliaga.infrastructure.persistence.inmemory.BusBrandRegistry;
+import pe.civa.matias_aliaga.infrastructure.persistence.inmemory.BusImportJob;
+import pe.civa.matias_aliaga.infrastructure.persistence.inmemory.BusImportJobRegistry;
+import pe.civa.matias_aliaga.infrastructure.persistence.inmemory.LicensePlateIndex;
 import pe.civa.matias_aliaga.infrastructure.persistence.jpa.repositories.BusRepository;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
 /**
  * Implementation of the BusCommandService interface.
  * Handles command operations for buses, including creation and validation.
  */
 @Service
 public class BusCommandServiceImpl implements BusCommandService {
+    private static final Logger logger = LoggerFactory.getLogger(BusCommandServiceImpl.class);
+
+    /** Number of times a batch is inserted before a conflict with concurrent inserts fails it */
+    private static final int MAX_BATCH_ATTEMPTS = 3;
+
     /** Repository for bus data access operations */
     private final BusRepository busRepository;
-    /** Repository for bus brand data access operations */
-    private final BusBrandRepository busBrandRepository;
+    /** Registry resolving bus brands without database round trips */
+    private final BusBrandRegistry busBrandRegistry;
+    /** Validator used to check bus entities before they are persisted in batches */
+    private final Validator validator;
+    /** Index of the license plates already in use */
+    private final LicensePlateIndex licensePlateIndex;
+    /** Publisher of the bus domain events */
+    private final ApplicationEventPublisher eventPublisher;
+    /** Importer loading the buses of CSV files */
+    private final BusCsvImporter busCsvImporter;
+    /** Registry tracking the progress of the imports */
+    private final BusImportJobRegistry busImportJobRegistry;
+    /** Executor running the imports in the background */
+    private final TaskExecutor busImportExecutor;
+    /** Template running each attempt to insert a batch in its own transaction */
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * Constructor for BusCommandServiceImpl.
      * @param busRepository The bus repository for data access
-     * @param busBrandRepository The bus brand repository for data access
+     * @param busBrandRegistry The bus brand registry
+     * @param validator The bean validator for bus entities
+     * @param licensePlateIndex The index of license plates in use
+     * @param eventPublisher The publisher of bus domain events
+     * @param busCsvImporter The importer of CSV files
+     * @param busImportJobRegistry The registry of imports
+     * @param busImportExecutor The executor running the imports
+     * @param transactionManager The transaction manager running the batch inserts
      */
     @Autowired
-    public BusCommandServiceImpl(BusRepository busRepository, BusBrandRepository busBrandRepository) {
+    public BusCommandServiceImpl(BusRepository busRepository, BusBrandRegistry busBrandRegistry, Validator validator,
+                                 LicensePlateIndex licensePlateIndex, ApplicationEventPublisher eventPublisher,
+                                 BusCsvImporter busCsvImporter, BusImportJobRegistry busImportJobRegistry,
+                                 @Qualifier("busImportExecutor") TaskExecutor busImportExecutor,
+                                 PlatformTransactionManager transactionManager) {
         this.busRepository = busRepository;
-        this.busBrandRepository = busBrandRepository;
+        this.busBrandRegistry = busBrandRegistry;
+        this.validator = validator;
+        this.licensePlateIndex = licensePlateIndex;
+        this.eventPublisher = eventPublisher;
+        this.busCsvImporter = busCsvImporter;
+        this.busImportJobRegistry = busImportJobRegistry;
+        this.busImportExecutor = busImportExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     /**
      * Handles the creation of a new bus.
-     * Validates that the license plate and bus number combination doesn't already exist,
-     * verifies that the bus brand exists, and creates a new bus entity.
+     * Resolves the bus brand from the registry and inserts the bus right away.
+     * License plates known by the in-memory index are rejected without touching the database; any other
+     * duplicated bus number or license plate is rejected by the unique constraints of the buses table,
+     * which surface as a DataIntegrityViolationException instead of being checked with an extra query.
      * @param command The create bus command containing bus details
-     * @return The ID of the newly created bus
-     * @throws IllegalArgumentException if bus already exists or brand doesn't exist
+     * @return The persisted bus
+     * @throws IllegalArgumentException if the license plate is invalid or the brand doesn't exist
+     * @throws BusAlreadyExistsException if the license plate is already in use
      */
     @Override
-    public Long handle(CreateBusCommand command) {
-        var licensePlate = new LicensePlate(command.licensePlate());
-        if (this.busRepository.existsBusByLicensePlateAndBusNumber(licensePlate, command.busNumber())) {
-            throw new IllegalArgumentException("Bus with license plate " + command.licensePlate() + " and bus number " + command.busNumber() + " already exists.");
+    public Bus handle(CreateBusCommand command) {
+        var plateCode = LicensePlate.encode(command.licensePlate());
+        if (this.licensePlateIndex.contains(plateCode)) {
+            throw new BusAlreadyExistsException("Bus with license plate " + command.licensePlate() + " already exists.");
         }
-
-        var busBrand = this.busBrandRepository.findByName(BusBrands.fromString(command.brand()))
+        var busBrand = this.busBrandRegistry.find(BusBrands.fromString(command.brand()))
                 .orElseThrow(() -> new IllegalArgumentException("Bus brand " + command.brand() + " does not exist."));
 
-        var bus = new Bus(command, busBrand);
-        busRepository.save(bus);
+        var bus = busRepository.saveAndFlush(new Bus(command, busBrand));
+        this.eventPublisher.publishEvent(new BusCreatedEvent(bus));
+        return bus;
+    }
+
+    /**
+     * Handles the creation of several buses in a single transaction.
+     * Every item is validated before touching the database, brands are resolved from the registry,
+     * duplicates against existing buses are detected with a single query and the remaining
+     * buses are inserted through JDBC statement batching.
+     * Invalid or duplicated items are reported individually and do not prevent the others from being created.
+     * A bus inserted concurrently with the same bus number or license plate makes the insert fail after the
+     * duplicate query: the transaction is then rolled back and retried without the items it conflicts with,
+     * which the new duplicate query reports, up to MAX_BATCH_ATTEMPTS times.
+     * @param command The create buses command containing the details of each bus
+     * @return The outcome of each item, in the same order as the commands
+     * @throws DataIntegrityViolationException if the insert still conflicts after the last attempt
+     */
+    @Override
+    public List<BusCreationResult> handle(CreateBusesCommand command) {
+        var commands = command.buses();
+        var results = new BusCreationResult[commands.size()];
+        var candidates = new ArrayList<Integer>();
+        var brands = new HashMap<Integer, BusBrand>();
+        var busNumbers = new HashSet<Integer>();
+        var licensePlates = new HashSet<String>();
+        for (int i = 0; i < commands.size(); i++) {
+            var item = commands.get(i);
+            try {
+                var busBrand = this.busBrandRegistry.find(BusBrands.fromString(item.brand()))
+                        .orElseThrow(() -> new IllegalArgumentException("Bus brand " + item.brand() + " does not exist."));
+                var violations = this.validator.validate(new Bus(item, busBrand));
+                if (!violations.isEmpty()) {
+                    throw new IllegalArgumentException(violations.stream()
+                            .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                            .collect(Collectors.joining(", ")));
+                }
+                if (busNumbers.contains(item.busNumber()) || licensePlates.contains(item.licensePlate())) {
+                    throw new IllegalArgumentException("Bus with license plate " + item.licensePlate() + " or bus number " + item.busNumber() + " is repeated in the batch.");
+                }
+                busNumbers.add(item.busNumber());
+                licensePlates.add(item.licensePlate());
+                brands.put(i, busBrand);
+                candidates.add(i);
+            } catch (IllegalArgumentException ex) {
+                results[i] = BusCreationResult.failed(ex.getMessage());
+            }
+        }
 
-        return bus.getId();
+        for (int attempt = 1; !candidates.isEmpty(); attempt++) {
+            try {
+                this.transactionTemplate.executeWithoutResult(status -> createBuses(commands, candidates, brands, results));
+                break;
+            } catch (DataIntegrityViolationException ex) {
+                if (attempt == MAX_BATCH_ATTEMPTS) throw ex;
+                logger.debug("Batch of {} buses conflicted with a concurrent insert, retrying", candidates.size(), ex);
+            }
+        }
+
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Inserts the candidate buses of a batch that do not exist yet, within the current transaction.
+     * Results are only recorded once the insert succeeds, so a failed attempt can be retried from scratch.
+     * @param commands The commands of the batch
+     * @param candidates The positions of the valid commands
+     * @param brands The brand of each valid command, by position
+     * @param results The outcome of each command, completed for the candidates
+     */
+    private void createBuses(List<CreateBusCommand> commands, List<Integer> candidates, Map<Integer, BusBrand> brands,
+                             BusCreationResult[] results) {
+        var busNumbers = new HashSet<Integer>();
+        var licensePlates = new HashSet<String>();
+        for (var index : candidates) {
+            busNumbers.add(commands.get(index).busNumber());
+            licensePlates.add(commands.get(index).licensePlate());
+        }
+        var existingBusNumbers = new HashSet<Integer>();
+        var existingLicensePlates = new HashSet<String>();
+        this.busRepository.findByBusNumberInOrLicensePlateIn(busNumbers, licensePlates).forEach(existing -> {
+            existingBusNumbers.add(existing.getBusNumber());
+            existingLicensePlates.add(existing.getLicensePlate().getValue());
+        });
+
+        var duplicates = new HashMap<Integer, BusCreationResult>();
+        var busesToSave = new ArrayList<Bus>(candidates.size());
+        var indexesToSave = new ArrayList<Integer>(candidates.size());
+        for (var index : candidates) {
+            var item = commands.get(index);
+            if (existingBusNumbers.contains(item.busNumber()) || existingLicensePlates.contains(item.licensePlate())) {
+                duplicates.put(index, BusCreationResult.failed("Bus with license plate " + item.licensePlate() + " or bus number " + item.busNumber() + " already exists."));
+            } else {
+                busesToSave.add(new Bus(item, brands.get(index)));
+                indexesToSave.add(index);
+            }
+        }
+
+        this.busRepository.saveAll(busesToSave);
+        this.busRepository.flush();
+        duplicates.forEach((index, result) -> results[index] = result);
+        for (int i = 0; i < busesToSave.size(); i++) {
+            results[indexesToSave.get(i)] = BusCreationResult.created(busesToSave.get(i).getId());
+            this.eventPublisher.publishEvent(new BusCreatedEvent(busesToSave.get(i)));
+        }
+    }
+
+    /**
+     * Handles the import of the buses of a CSV file.
+     * The import runs in the background, one at a time; its progress is available through its identifier.
+     * @param command The import buses command containing the uploaded file
+     * @return The unique identifier of the import
+     * @throws BusImportRejectedException if too many imports are already waiting to run
+     */
+    @Override
+    public UUID handle(ImportBusesCommand command) {
+        var job = this.busImportJobRegistry.create(command.fileName());
+        try {
+            this.busImportExecutor.execute(() -> runImport(command, job));
+        } catch (TaskRejectedException ex) {
+            this.busImportJobRegistry.remove(job.getId());
+            deleteSource(command);
+            throw new BusImportRejectedException("Too many imports are waiting to run, try again later.");
+        }
+        return job.getId();
+    }
+
+    /**
+     * Runs an import and records its outcome.
+     * Invalid records only skip their bus, while an unreadable or malformed file fails the whole import.
+     * @param command The import buses command
+     * @param job The import whose progress is updated
+     */
+    private void runImport(ImportBusesCommand command, BusImportJob job) {
+        job.start();
+        try {
+            var result = this.busCsvImporter.importFile(command.source(), job);
+            job.complete(result);
+            if (result.inserted() > 0)
+                this.eventPublisher.publishEvent(new BusesImportedEvent(job.getId(), result.inserted()));
+        } catch (IllegalArgumentException | IOException ex) {
+            job.fail(ex.getMessage());
+        } catch (RuntimeException ex) {
+            logger.error("Import {} of {} failed", job.getId(), command.fileName(), ex);
+            job.fail("Unexpected error occurred");
+        } finally {
+            deleteSource(command);
+        }
+    }
+
+    /**
+     * Deletes the uploaded file of an import.
+     * @param command The import buses command
+     */
+    private void deleteSource(ImportBusesCommand command) {
+        try {
+            Files.deleteIfExists(command.source());
+        } catch (IOException ex) {
+            logger.warn("Could not delete the uploaded file {}", command.source(), ex);
+        }
     }
 }
@@ -0,0 +1,228 @@
+package pe.civa.matias_aliaga.application.internal.commandservices;
+
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import pe.civa.matias_aliaga.domain.model.commands.CreateBusCommand;
+import pe.civa.matias_aliaga.domain.model.entities.Bus;
+import pe.civa.matias_aliaga.domain.model.entities.BusBrand;
+import pe.civa.matias_aliaga.domain.model.projections.BusImportMergeResult;
+import pe.civa.matias_aliaga.domain.model.valueobjects.BusBrands;
+import pe.civa.matias_aliaga.domain.model.valueobjects.BusImportLine;
+import pe.civa.matias_aliaga.infrastructure.persistence.inmemory.BusBrandRegistry;
+import pe.civa.matias_aliaga.infrastructure.persistence.inmemory.BusImportJob;
+import pe.civa.matias_aliaga.infrastructure.persistence.jpa.repositories.BusRepository;
+import pe.civa.matias_aliaga.shared.infrastructure.csv.CsvReader;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Imports the buses of a CSV file in a single transaction.
+ * The file is parsed and validated one record at a time while it is copied into the database,
+ * so memory stays bounded whatever its size. Records are validated with the same rules as the
+ * buses created through the API; invalid records are reported and skipped without stopping the import.
+ * <p>
+ * The first record must be a header naming the busNumber, licensePlate, brand and characteristics
+ * columns, and optionally isActive (true when omitted), in any order and case.
+ */
+@Component
+public class BusCsvImporter {
+
+    /** Maximum number of characters of a record, longer records make the file invalid */
+    private static final int MAX_RECORD_LENGTH = 4096;
+
+    /** Maximum number of duplicated lines reported */
+    private static final int MAX_REPORTED_DUPLICATES = 100;
+
+    /** Repository for bus data access operations */
+    private final BusRepository busRepository;
+    /** Registry resolving bus brands without database round trips */
+    private final BusBrandRegistry busBrandRegistry;
+    /** Validator used to check every bus before it is copied */
+    private final Validator validator;
+
+    /**
+     * Constructor for BusCsvImporter.
+     * @param busRepository The bus repository for data access
+     * @param busBrandRegistry The bus brand registry
+     * @param validator The bean validator for bus entities
+     */
+    @Autowired
+    public BusCsvImporter(BusRepository busRepository, BusBrandRegistry busBrandRegistry, Validator validator) {
+        this.busRepository = busRepository;
+        this.busBrandRegistry = busBrandRegistry;
+        this.validator = validator;
+    }
+
+    /**
+     * Imports the buses of a CSV file.
+     * @param file The CSV file, encoded in UTF-8
+     * @param job The import whose progress is updated
+     * @return The outcome of the merge into the buses table
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if the file is empty, lacks a required column or is malformed
+     */
+    @Transactional
+    public BusImportMergeResult importFile(Path file, BusImportJob job) throws IOException {
+        try (var csv = new CsvReader(new InputStreamReader(Files.newInputStream(file), StandardCharsets.UTF_8), MAX_RECORD_LENGTH)) {
+            var header = csv.readRecord();
+            if (header == null) throw new IllegalArgumentException("The file is empty.");
+            var columns = Columns.fromHeader(header);
+            return busRepository.importBuses(new ValidLines(csv, columns, job), MAX_REPORTED_DUPLICATES);
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    /**
+     * Validates a record and builds the bus it describes.
+     * @param record The fields of the record
+     * @param columns The position of each column
+     * @return The bus described by the record
+     * @throws IllegalArgumentException if the record is invalid
+     */
+    private Bus toBus(List<String> record, Columns columns) {
+        if (record.size() != columns.count())
+            throw new IllegalArgumentException("Expected " + columns.count() + " fields but found " + record.size() + ".");
+        int busNumber;
+        try {
+            busNumber = Integer.parseInt(record.get(columns.busNumber()).trim());
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Bus number must be an integer.");
+        }
+        var characteristics = record.get(columns.characteristics()).trim();
+        if (characteristics.isEmpty()) throw new IllegalArgumentException("Characteristics cannot be blank.");
+        var brandName = record.get(columns.brand());
+        var busBrand = findBrand(brandName)
+                .orElseThrow(() -> new IllegalArgumentException("Bus brand " + brandName + " does not exist."));
+        var command = new CreateBusCommand(busNumber, record.get(columns.licensePlate()).trim(), characteristics,
+                brandName, parseActive(columns.isActive() < 0 ? "" : record.get(columns.isActive())));
+
+        var bus = new Bus(command, busBrand);
+        var violations = this.validator.validate(bus);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .collect(Collectors.joining(", ")));
+        }
+        return bus;
+    }
+
+    /**
+     * Finds a registered bus brand by its name.
+     * @param name The brand name as written in the file
+     * @return Optional containing the bus brand if registered, empty if unknown
+     */
+    private Optional<BusBrand> findBrand(String name) {
+        try {
+            return this.busBrandRegistry.find(BusBrands.fromString(name));
+        } catch (IllegalArgumentException ex) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Parses the active status of a bus.
+     * @param value The field value, blank for the default
+     * @return The active status, true when blank
+     * @throws IllegalArgumentException if the value is neither true nor false
+     */
+    private static boolean parseActive(String value) {
+        var normalized = value.trim().toLowerCase(Locale.ROOT);
+        return switch (normalized) {
+            case "", "true" -> true;
+            case "false" -> false;
+            default -> throw new IllegalArgumentException("Active status must be true or false.");
+        };
+    }
+
+    /**
+     * Position of each column in the records of the file.
+     * @param count The number of columns
+     * @param busNumber The position of the bus number
+     * @param licensePlate The position of the license plate
+     * @param brand The position of the brand
+     * @param characteristics The position of the characteristics
+     * @param isActive The position of the active status, -1 if absent
+     */
+    private record Columns(int count, int busNumber, int licensePlate, int brand, int characteristics, int isActive) {
+
+        /**
+         * Finds the columns in the header record.
+         * Names are matched ignoring case, underscores and a leading byte order mark.
+         * @param header The header record
+         * @return The position of each column
+         * @throws IllegalArgumentException if a required column is missing
+         */
+        static Columns fromHeader(List<String> header) {
+            var names = header.stream()
+                    .map(name -> name.replace("\uFEFF", "").replace("_", "").trim().toLowerCase(Locale.ROOT))
+                    .toList();
+            return new Columns(header.size(), required(names, "busnumber"), required(names, "licenseplate"),
+                    required(names, "brand"), required(names, "characteristics"), names.indexOf("isactive"));
+        }
+
+        private static int required(List<String> names, String name) {
+            var index = names.indexOf(name);
+            if (index < 0) throw new IllegalArgumentException("Missing column " + name + " in the header.");
+            return index;
+        }
+    }
+
+    /**
+     * Lazily reads the records of the file and yields the valid ones, counting and reporting the others.
+     */
+    private final class ValidLines implements Iterator<BusImportLine> {
+        private final CsvReader csv;
+        private final Columns columns;
+        private final BusImportJob job;
+        private BusImportLine next;
+
+        private ValidLines(CsvReader csv, Columns columns, BusImportJob job) {
+            this.csv = csv;
+            this.columns = columns;
+            this.job = job;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null) {
+                List<String> record;
+                try {
+                    record = csv.readRecord();
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+                if (record == null) return false;
+                if (record.size() == 1 && record.getFirst().isBlank()) continue;
+                job.lineRead();
+                try {
+                    next = new BusImportLine(csv.getRecordLine(), toBus(record, columns));
+                } catch (IllegalArgumentException ex) {
+                    job.lineRejected(csv.getRecordLine(), ex.getMessage());
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public BusImportLine next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            var current = next;
+            next = null;
+            return current;
+        }
+    }
+}
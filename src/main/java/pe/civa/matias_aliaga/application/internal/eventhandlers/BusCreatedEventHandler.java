@@ -0,0 +1,29 @@
+package pe.civa.matias_aliaga.application.internal.eventhandlers;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import pe.civa.matias_aliaga.domain.model.events.BusCreatedEvent;
+import pe.civa.matias_aliaga.infrastructure.persistence.inmemory.FleetStatisticsCounters;
+import pe.civa.matias_aliaga.infrastructure.persistence.inmemory.LicensePlateIndex;
+
+/**
+ * Keeps the in-memory read models in sync with the buses created by this instance.
+ * Runs once the creating transaction commits, so rolled back buses are never indexed.
+ */
+@Service
+public class BusCreatedEventHandler {
+    private final LicensePlateIndex licensePlateIndex;
+    private final FleetStatisticsCounters fleetStatisticsCounters;
+
+    public BusCreatedEventHandler(LicensePlateIndex licensePlateIndex, FleetStatisticsCounters fleetStatisticsCounters) {
+        this.licensePlateIndex = licensePlateIndex;
+        this.fleetStatisticsCounters = fleetStatisticsCounters;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(BusCreatedEvent event) {
+        var bus = event.bus();
+        licensePlateIndex.put(bus.getLicensePlate().getCode(), bus.getId());
+        fleetStatisticsCounters.increment(bus.getBrand().getName(), bus.isActive());
+    }
+}
@@ -0,0 +1,29 @@
+package pe.civa.matias_aliaga.application.internal.eventhandlers;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import pe.civa.matias_aliaga.domain.model.events.BusesImportedEvent;
+import pe.civa.matias_aliaga.infrastructure.persistence.inmemory.FleetStatisticsCounters;
+import pe.civa.matias_aliaga.infrastructure.persistence.inmemory.LicensePlateIndex;
+
+/**
+ * Reloads the in-memory read models once an import has created buses.
+ * Imported buses are inserted with set-based statements, so the read models are rebuilt from the database
+ * instead of being updated one bus at a time.
+ */
+@Service
+public class BusesImportedEventHandler {
+    private final LicensePlateIndex licensePlateIndex;
+    private final FleetStatisticsCounters fleetStatisticsCounters;
+
+    public BusesImportedEventHandler(LicensePlateIndex licensePlateIndex, FleetStatisticsCounters fleetStatisticsCounters) {
+        this.licensePlateIndex = licensePlateIndex;
+        this.fleetStatisticsCounters = fleetStatisticsCounters;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(BusesImportedEvent event) {
+        licensePlateIndex.load();
+        fleetStatisticsCounters.load();
+    }
+}
@@ -5,28 +5,45 @@ import org.slf4j.LoggerFactory;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
-import pe.civa.matias_aliaga.application.internal.commandservices.BusBrandCommandServiceImpl;
-import pe.civa.matias_aliaga.domain.model.commands.SeedBusBrandsCommand;
+import pe.civa.matias_aliaga.infrastructure.persistence.inmemory.BusBrandRegistry;
+import pe.civa.matias_aliaga.infrastructure.persistence.inmemory.FleetStatisticsCounters;
+import pe.civa.matias_aliaga.infrastructure.persistence.inmemory.LicensePlateIndex;
+import pe.civa.matias_aliaga.shared.infrastructure.persistence.referencedata.ReferenceDataSynchronization;
 
 import java.sql.Timestamp;
 
 @Service
 public class CivaReadyEventHandler {
-    private final BusBrandCommandServiceImpl busBrandCommandService;
+    private final ReferenceDataSynchronization referenceDataSynchronization;
+    private final BusBrandRegistry busBrandRegistry;
+    private final LicensePlateIndex licensePlateIndex;
+    private final FleetStatisticsCounters fleetStatisticsCounters;
     private static final Logger logger = LoggerFactory.getLogger(CivaReadyEventHandler.class);
 
-    public CivaReadyEventHandler(BusBrandCommandServiceImpl busBrandCommandService) {
-        this.busBrandCommandService = busBrandCommandService;
+    public CivaReadyEventHandler(ReferenceDataSynchronization referenceDataSynchronization, BusBrandRegistry busBrandRegistry,
+                                 LicensePlateIndex licensePlateIndex, FleetStatisticsCounters fleetStatisticsCounters) {
+        this.referenceDataSynchronization = referenceDataSynchronization;
+        this.busBrandRegistry = busBrandRegistry;
+        this.licensePlateIndex = licensePlateIndex;
+        this.fleetStatisticsCounters = fleetStatisticsCounters;
     }
 
     @EventListener
     public void on(ApplicationReadyEvent event) {
         var applicationName = event.getApplicationContext().getApplicationName();
-        logger.info("Starting to verify if bus brands seeding is needed for {} at {}",
-                applicationName, currentTimestamp());
+        referenceDataSynchronization.await();
+        logger.info("Reference data synchronised for {} at {}", applicationName, currentTimestamp());
 
-        busBrandCommandService.handle(new SeedBusBrandsCommand());
-        logger.info("Bus brands seeding verification finished for {} at {}",applicationName, currentTimestamp());
+        busBrandRegistry.load();
+        logger.info("Bus brand registry loaded for {} at {}", applicationName, currentTimestamp());
+
+        licensePlateIndex.load();
+        logger.info("License plate index loaded with {} plates for {} at {}",
+                licensePlateIndex.size(), applicationName, currentTimestamp());
+
+        fleetStatisticsCounters.load();
+        logger.info("Fleet statistics loaded with {} buses for {} at {}",
+                fleetStatisticsCounters.snapshot().total(), applicationName, currentTimestamp());
     }
 
     private Timestamp currentTimestamp() {
@@ -0,0 +1,29 @@
+package pe.civa.matias_aliaga.application.internal.eventhandlers;
+
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import pe.civa.matias_aliaga.domain.model.commands.SeedBusBrandsCommand;
+import pe.civa.matias_aliaga.domain.services.BusBrandCommandService;
+import pe.civa.matias_aliaga.shared.infrastructure.persistence.referencedata.ReferenceDataSynchronization;
+
+/**
+ * Starts the reference data synchronisation as soon as the context is refreshed,
+ * so it overlaps with the rest of the startup instead of delaying the application ready event.
+ */
+@Service
+public class CivaStartedEventHandler {
+    private final BusBrandCommandService busBrandCommandService;
+    private final ReferenceDataSynchronization referenceDataSynchronization;
+
+    public CivaStartedEventHandler(BusBrandCommandService busBrandCommandService,
+                                   ReferenceDataSynchronization referenceDataSynchronization) {
+        this.busBrandCommandService = busBrandCommandService;
+        this.referenceDataSynchronization = referenceDataSynchronization;
+    }
+
+    @EventListener
+    public void on(ApplicationStartedEvent event) {
+        referenceDataSynchronization.start(() -> busBrandCommandService.handle(new SeedBusBrandsCommand()));
+    }
+}
@@ -6,38 +6,38 @@ import pe.civa.matias_aliaga.domain.model.entities.BusBrand;
 import pe.civa.matias_aliaga.domain.model.queries.GetAllBusBrandsQuery;
 import pe.civa.matias_aliaga.domain.model.queries.GetBusBrandByNameQuery;
 import pe.civa.matias_aliaga.domain.services.BusBrandQueryService;
-import pe.civa.matias_aliaga.infrastructure.persistence.jpa.repositories.BusBrandRepository;
+import pe.civa.matias_aliaga.infrastructure.persistence.inmemory.BusBrandRegistry;
 
 import java.util.List;
 import java.util.Optional;
 
 /**
  * Implementation of the BusBrandQueryService interface.
- * Handles all bus brand-related query operations using the BusBrandRepository.
+ * Handles all bus brand-related query operations using the in-memory BusBrandRegistry.
  */
 @Service
 public class BusBrandQueryServiceImpl implements BusBrandQueryService {
 
-    /** Repository for bus brand data access operations */
-    private final BusBrandRepository repository;
+    /** Registry holding the bus brands loaded at startup */
+    private final BusBrandRegistry registry;
 
     /**
      * Constructor for BusBrandQueryServiceImpl.
-     * @param repository The bus brand repository for data access
+     * @param registry The bus brand registry
      */
     @Autowired
-    public BusBrandQueryServiceImpl(BusBrandRepository repository) {
-        this.repository = repository;
+    public BusBrandQueryServiceImpl(BusBrandRegistry registry) {
+        this.registry = registry;
     }
 
     /**
      * Handles the retrieval of all bus brands in the system.
      * @param query The get all bus brands query
-     * @return List of all bus brands
+     * @return Immutable list of all bus brands ordered by identifier
      */
     @Override
     public List<BusBrand> handle(GetAllBusBrandsQuery query) {
-        return this.repository.findAll();
+        return this.registry.getAll();
     }
 
     /**
@@ -47,6 +47,6 @@ public class BusBrandQueryServiceImpl implements BusBrandQueryService {
      */
     @Override
     public Optional<BusBrand> handle(GetBusBrandByNameQuery query) {
-        return this.repository.findByName(query.name());
+        return this.registry.find(query.name());
     }
 }
@@ -3,32 +3,92 @@ package pe.civa.matias_aliaga.application.internal.queryservices;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 import pe.civa.matias_aliaga.domain.model.entities.Bus;
+import pe.civa.matias_aliaga.domain.model.projections.BusCollectionFingerprint;
+import pe.civa.matias_aliaga.domain.model.projections.BusImportProgress;
+import pe.civa.matias_aliaga.domain.model.projections.BusSummary;
+import pe.civa.matias_aliaga.domain.model.projections.BusSummaryPage;
+import pe.civa.matias_aliaga.domain.model.projections.FleetStatistics;
 import pe.civa.matias_aliaga.domain.model.queries.GetAllBusesQuery;
+import pe.civa.matias_aliaga.domain.model.queries.GetBusCollectionFingerprintQuery;
 import pe.civa.matias_aliaga.domain.model.queries.GetBusByIdQuery;
+import pe.civa.matias_aliaga.domain.model.queries.GetBusByLicensePlateQuery;
+import pe.civa.matias_aliaga.domain.model.queries.GetBusImportQuery;
+import pe.civa.matias_aliaga.domain.model.queries.GetBusSummaryByIdQuery;
+import pe.civa.matias_aliaga.domain.model.queries.GetBusSummaryPageQuery;
+import pe.civa.matias_aliaga.domain.model.queries.GetBusVersionQuery;
+import pe.civa.matias_aliaga.domain.model.queries.GetBusesAfterCursorQuery;
+import pe.civa.matias_aliaga.domain.model.queries.GetFleetStatisticsQuery;
+import pe.civa.matias_aliaga.domain.model.queries.StreamAllBusesQuery;
+import pe.civa.matias_aliaga.domain.model.valueobjects.BusSearchCriteria;
+import pe.civa.matias_aliaga.domain.model.valueobjects.LicensePlate;
+import pe.civa.matias_aliaga.domain.model.valueobjects.TotalCountMode;
 import pe.civa.matias_aliaga.domain.services.BusQueryService;
+import pe.civa.matias_aliaga.infrastructure.persistence.batching.BusLookupBatchLoader;
+import pe.civa.matias_aliaga.infrastructure.persistence.inmemory.BusBrandRegistry;
+import pe.civa.matias_aliaga.infrastructure.persistence.inmemory.BusImportJob;
+import pe.civa.matias_aliaga.infrastructure.persistence.inmemory.BusImportJobRegistry;
+import pe.civa.matias_aliaga.infrastructure.persistence.inmemory.FleetStatisticsCounters;
+import pe.civa.matias_aliaga.infrastructure.persistence.inmemory.LicensePlateIndex;
 import pe.civa.matias_aliaga.infrastructure.persistence.jpa.repositories.BusRepository;
+import pe.civa.matias_aliaga.infrastructure.persistence.jpa.specifications.BusSpecifications;
 
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Implementation of the BusQueryService interface.
  * Handles all bus-related query operations using the BusRepository.
+ * Queries run in read-only transactions, which are served by the replica when one is configured.
+ * In a read-only transaction the session never flushes (FlushMode.MANUAL) and loads entities read-only,
+ * so no snapshot is kept for dirty checking; results are complete when returned, since no session
+ * stays open while the response is assembled and serialised.
  */
 @Service
+@Transactional(readOnly = true)
 public class BusQueryServiceImpl implements BusQueryService {
     /** Repository for bus data access operations */
     private final BusRepository repository;
+    /** Index of the license plates in use */
+    private final LicensePlateIndex licensePlateIndex;
+    /** Registry resolving the brand filter without database round trips */
+    private final BusBrandRegistry busBrandRegistry;
+    /** Counters of the buses per brand and active status */
+    private final FleetStatisticsCounters fleetStatisticsCounters;
+    /** Registry tracking the progress of the imports */
+    private final BusImportJobRegistry busImportJobRegistry;
+    /** Loader coalescing the concurrent lookups of buses by identifier */
+    private final BusLookupBatchLoader busLookupBatchLoader;
 
     /**
      * Constructor for BusQueryServiceImpl.
      * @param repository The bus repository for data access
+     * @param licensePlateIndex The index of license plates in use
+     * @param busBrandRegistry The bus brand registry
+     * @param fleetStatisticsCounters The counters of the buses per brand and active status
+     * @param busImportJobRegistry The registry of imports
+     * @param busLookupBatchLoader The loader coalescing the lookups of buses by identifier
      */
     @Autowired
-    public BusQueryServiceImpl(BusRepository repository) {
+    public BusQueryServiceImpl(BusRepository repository, LicensePlateIndex licensePlateIndex, BusBrandRegistry busBrandRegistry,
+                               FleetStatisticsCounters fleetStatisticsCounters, BusImportJobRegistry busImportJobRegistry,
+                               BusLookupBatchLoader busLookupBatchLoader) {
         this.repository = repository;
+        this.licensePlateIndex = licensePlateIndex;
+        this.busBrandRegistry = busBrandRegistry;
+        this.fleetStatisticsCounters = fleetStatisticsCounters;
+        this.busImportJobRegistry = busImportJobRegistry;
+        this.busLookupBatchLoader = busLookupBatchLoader;
     }
 
     /**
@@ -60,4 +120,169 @@ public class BusQueryServiceImpl implements BusQueryService {
     public Page<Bus> handle(Pageable pageable) {
         return repository.findAll(pageable);
     }
+
+    /**
+     * Handles the retrieval of a bus summary by its unique identifier.
+     * Concurrent lookups are coalesced and loaded together by primary key, so that hot buses and their brands
+     * are served from the second-level cache and the others with one query per batch.
+     * Runs without a transaction of its own, since the batches open theirs.
+     * @param query The query containing the bus ID
+     * @return Optional containing the bus summary if found, empty otherwise
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Optional<BusSummary> handle(GetBusSummaryByIdQuery query) {
+        return this.busLookupBatchLoader.findSummary(query.id());
+    }
+
+    /**
+     * Handles the retrieval of a bus summary by its license plate.
+     * Plates found in the in-memory index are resolved by primary key, which is served from the
+     * second-level cache; any other plate falls back to a query on the license plate column.
+     * @param query The query containing the license plate
+     * @return Optional containing the bus summary if found, empty otherwise
+     * @throws IllegalArgumentException if the license plate is invalid
+     */
+    @Override
+    public Optional<BusSummary> handle(GetBusByLicensePlateQuery query) {
+        var plateCode = LicensePlate.encode(query.licensePlate());
+        if (plateCode < 0) {
+            throw new IllegalArgumentException("Invalid license plate: " + query.licensePlate());
+        }
+        var busId = this.licensePlateIndex.findBusId(plateCode);
+        if (busId.isPresent()) {
+            return this.repository.findById(busId.getAsLong()).map(BusSummary::from);
+        }
+        return this.repository.findSummaryByLicensePlate(LicensePlate.decode(plateCode));
+    }
+
+    /**
+     * Handles the retrieval of a page of bus summaries using offset pagination.
+     * Exact totals count the matching buses on every page. Otherwise one extra row is fetched to know whether
+     * another page follows, and approximate totals are read from the planner statistics of the buses table,
+     * which only describe the whole table, so filtered pages get no total.
+     * The total is exact whenever the page turns out to be the last one.
+     * @param query The query containing the pagination parameters, the filters and the total count mode
+     * @return Page containing the bus summaries and the total number of buses, when known
+     */
+    @Override
+    public BusSummaryPage handle(GetBusSummaryPageQuery query) {
+        var pageable = query.pageable();
+        var specification = toSpecification(query.criteria());
+        if (specification.isEmpty())
+            return new BusSummaryPage(new SliceImpl<>(List.of(), pageable, false), 0L, TotalCountMode.EXACT);
+
+        if (query.totals() == TotalCountMode.EXACT) {
+            var page = this.repository.findSummaries(specification.get(), pageable);
+            return new BusSummaryPage(page, page.getTotalElements(), TotalCountMode.EXACT);
+        }
+
+        var slice = this.repository.findSummarySlice(specification.get(), pageable);
+        var seen = pageable.getOffset() + slice.getNumberOfElements();
+        if (!slice.hasNext() && (slice.hasContent() || pageable.getOffset() == 0))
+            return new BusSummaryPage(slice, seen, TotalCountMode.EXACT);
+        if (query.totals() == TotalCountMode.NONE || !query.criteria().isEmpty())
+            return new BusSummaryPage(slice, null, TotalCountMode.NONE);
+
+        var estimate = this.repository.estimateCount();
+        if (estimate < 0)
+            return new BusSummaryPage(slice, this.repository.count(), TotalCountMode.EXACT);
+        return new BusSummaryPage(slice, Math.max(estimate, slice.hasNext() ? seen + 1 : seen), TotalCountMode.APPROXIMATE);
+    }
+
+    /**
+     * Handles the retrieval of a window of bus summaries using keyset pagination on the bus identifier.
+     * Fetches one extra row to find out whether another window is available.
+     * @param query The query containing the last seen identifier, the window size and the filters
+     * @return Window containing the bus summaries that follow the given identifier
+     */
+    @Override
+    public Window<BusSummary> handle(GetBusesAfterCursorQuery query) {
+        var afterId = query.afterId() == null ? 0L : query.afterId();
+        var buses = toSpecification(query.criteria())
+                .map(specification -> repository.findSummariesAfter(specification, afterId, query.limit() + 1))
+                .orElseGet(List::of);
+        var hasNext = buses.size() > query.limit();
+        var content = hasNext ? buses.subList(0, query.limit()) : buses;
+        return Window.from(content, index -> ScrollPosition.forward(Map.of("id", content.get(index).id())), hasNext);
+    }
+
+    /**
+     * Handles the streaming of all bus summaries in the system matching the filters.
+     * Summaries are not managed by the persistence context, so memory usage
+     * stays constant regardless of the fleet size.
+     * @param query The stream all buses query containing the filters and the order
+     * @param consumer The consumer receiving each bus summary in the requested order
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void handle(StreamAllBusesQuery query, Consumer<BusSummary> consumer) {
+        var specification = toSpecification(query.criteria());
+        if (specification.isEmpty()) return;
+        try (var buses = repository.streamSummaries(specification.get(), query.sort())) {
+            buses.forEach(consumer);
+        }
+    }
+
+    /**
+     * Handles the retrieval of the version of a bus, used to answer conditional requests.
+     * Concurrent lookups are coalesced into one query per batch.
+     * @param query The query containing the bus ID
+     * @return Optional containing the timestamp of the last update of the bus if found, empty otherwise
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Optional<Date> handle(GetBusVersionQuery query) {
+        return this.busLookupBatchLoader.findVersion(query.id());
+    }
+
+    /**
+     * Handles the retrieval of the fingerprint of the buses matching the filters, used to answer conditional requests.
+     * @param query The query containing the filters
+     * @return The greatest identifier, the latest update timestamp and the number of the matching buses
+     */
+    @Override
+    public BusCollectionFingerprint handle(GetBusCollectionFingerprintQuery query) {
+        return toSpecification(query.criteria())
+                .map(this.repository::fingerprint)
+                .orElse(BusCollectionFingerprint.EMPTY);
+    }
+
+    /**
+     * Handles the retrieval of the number of buses per brand and active status.
+     * Served from the in-memory counters without opening a transaction; they are only initialised
+     * here, with a single grouped query, if the startup load has not run yet.
+     * @param query The fleet statistics query
+     * @return The number of buses overall and per brand
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public FleetStatistics handle(GetFleetStatisticsQuery query) {
+        if (!this.fleetStatisticsCounters.isLoaded()) this.fleetStatisticsCounters.load();
+        return this.fleetStatisticsCounters.snapshot();
+    }
+
+    /**
+     * Handles the retrieval of the progress of an import, kept in memory by the instance running it.
+     * @param query The query containing the import ID
+     * @return Optional containing the progress of the import if known, empty otherwise
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Optional<BusImportProgress> handle(GetBusImportQuery query) {
+        return this.busImportJobRegistry.find(query.importId()).map(BusImportJob::snapshot);
+    }
+
+    /**
+     * Translates search criteria into a specification.
+     * The brand filter is resolved through the registry, a brand that is not registered matches no bus.
+     * @param criteria The search criteria
+     * @return The specification matching the criteria, or empty if no bus can match them
+     */
+    private Optional<Specification<Bus>> toSpecification(BusSearchCriteria criteria) {
+        var specification = BusSpecifications.matching(criteria);
+        if (criteria.brand() == null) return Optional.of(specification);
+        return this.busBrandRegistry.find(criteria.brand())
+                .map(brand -> specification.and(BusSpecifications.hasBrand(brand)));
+    }
 }
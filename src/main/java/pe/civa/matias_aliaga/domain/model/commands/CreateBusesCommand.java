@@ -0,0 +1,10 @@
+package pe.civa.matias_aliaga.domain.model.commands;
+
+import java.util.List;
+
+/**
+ * Command to create several buses at once.
+ * @param buses Commands describing each bus to create, in request order.
+ */
+public record CreateBusesCommand(List<CreateBusCommand> buses) {
+}
@@ -0,0 +1,12 @@
+package pe.civa.matias_aliaga.domain.model.commands;
+
+import java.nio.file.Path;
+
+/**
+ * Command to import buses from a CSV file.
+ * The file is owned by the import from then on and deleted once it finishes.
+ * @param source Temporary file holding the uploaded CSV.
+ * @param fileName Name of the file as uploaded by the client, for reporting.
+ */
+public record ImportBusesCommand(Path source, String fileName) {
+}
@@ -5,6 +5,8 @@ import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import lombok.Getter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import pe.civa.matias_aliaga.domain.model.commands.CreateBusCommand;
 import pe.civa.matias_aliaga.domain.model.valueobjects.LicensePlate;
 import pe.civa.matias_aliaga.shared.domain.model.entities.AuditableEntity;
@@ -12,26 +14,41 @@ import pe.civa.matias_aliaga.shared.domain.model.entities.AuditableEntity;
 /**
  * Bus entity representing a transportation vehicle.
  * Contains bus information including number, license plate, characteristics, brand and active status.
+ * Cached in the "buses" second-level cache region, invalidated on every write.
  */
 @Getter
 @Entity
 @ToString
-@Table(name="buses")
+@Table(name="buses", uniqueConstraints = {
+        @UniqueConstraint(name = Bus.BUS_NUMBER_CONSTRAINT, columnNames = "bus_number"),
+        @UniqueConstraint(name = Bus.LICENSE_PLATE_CONSTRAINT, columnNames = "license_plate")
+}, indexes = {
+        @Index(name = "ix_buses_brand_id_is_active", columnList = "brand_id, is_active"),
+        @Index(name = "ix_buses_created_at", columnList = "created_at"),
+        @Index(name = "ix_buses_updated_at", columnList = "updated_at")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "buses")
 public class Bus extends AuditableEntity {
 
+    /** Name of the unique constraint on the bus number column */
+    public static final String BUS_NUMBER_CONSTRAINT = "uk_buses_bus_number";
+    /** Name of the unique constraint on the license plate column */
+    public static final String LICENSE_PLATE_CONSTRAINT = "uk_buses_license_plate";
+
     /**
      * Bus number with validation constraints (1000-9999).
      */
     @Min(1000)
     @Max(9999)
-    @Column(unique = true, nullable = false,name="bus_number",length = 4)
+    @Column(nullable = false,name="bus_number",length = 4)
     private int busNumber;
 
     /**
      * Bus license plate as an embedded value object.
      */
     @Embedded
-    @AttributeOverride(name = "value", column = @Column(name = "license_plate", unique = true, nullable = false, length = 8))
+    @AttributeOverride(name = "value", column = @Column(name = "license_plate", nullable = false, length = 8))
     private LicensePlate licensePlate;
 
     /**
@@ -41,10 +58,11 @@ public class Bus extends AuditableEntity {
     private String characteristics;
 
     /**
-     * Bus brand reference.
+     * Bus brand reference, loaded on demand; queries needing it fetch it with an entity graph or a join.
      */
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "brand_id", nullable = false)
+    @ToString.Exclude
     private BusBrand brand;
 
     /**
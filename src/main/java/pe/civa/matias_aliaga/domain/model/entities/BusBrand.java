@@ -3,14 +3,19 @@ package pe.civa.matias_aliaga.domain.model.entities;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import pe.civa.matias_aliaga.domain.model.valueobjects.BusBrands;
 
 /**
  * Bus brand entity representing different bus manufacturers.
  * Contains the brand information as an enumerated type.
+ * Brands are only ever inserted, so they are cached read-only in the "bus-brands" second-level cache region.
  */
 @Entity
-@Table(name="bus_brands")
+@Table(name="bus_brands", uniqueConstraints = @UniqueConstraint(name = "uk_bus_brands_name", columnNames = "name"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "bus-brands")
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -28,7 +33,7 @@ public class BusBrand {
      * Bus brand name as an enumerated value.
      */
     @Enumerated(EnumType.STRING)
-    @Column(name="name", length = 50)
+    @Column(name="name", length = 50, nullable = false)
     private BusBrands name;
 
     /**
@@ -0,0 +1,11 @@
+package pe.civa.matias_aliaga.domain.model.events;
+
+import pe.civa.matias_aliaga.domain.model.entities.Bus;
+
+/**
+ * Event published when a bus has been created.
+ * Listeners are notified once the transaction that created the bus has been committed.
+ * @param bus The created bus.
+ */
+public record BusCreatedEvent(Bus bus) {
+}
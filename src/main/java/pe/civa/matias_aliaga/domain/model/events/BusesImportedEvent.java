@@ -0,0 +1,12 @@
+package pe.civa.matias_aliaga.domain.model.events;
+
+import java.util.UUID;
+
+/**
+ * Event published when an import has created buses.
+ * Imported buses are written with set-based statements, so no BusCreatedEvent is published for each of them.
+ * @param importId The unique identifier of the import.
+ * @param count The number of buses created.
+ */
+public record BusesImportedEvent(UUID importId, long count) {
+}
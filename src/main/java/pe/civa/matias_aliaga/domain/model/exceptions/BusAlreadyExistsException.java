@@ -0,0 +1,15 @@
+package pe.civa.matias_aliaga.domain.model.exceptions;
+
+/**
+ * Exception thrown when a bus cannot be created because another bus already uses
+ * the same bus number or license plate.
+ */
+public class BusAlreadyExistsException extends RuntimeException {
+    /**
+     * Constructs a new BusAlreadyExistsException with the specified detail message.
+     * @param message The detail message explaining which value is already in use
+     */
+    public BusAlreadyExistsException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,14 @@
+package pe.civa.matias_aliaga.domain.model.exceptions;
+
+/**
+ * Exception thrown when an import cannot be accepted because too many imports are already waiting to run.
+ */
+public class BusImportRejectedException extends RuntimeException {
+    /**
+     * Constructs a new BusImportRejectedException with the specified detail message.
+     * @param message The detail message explaining why the import was rejected
+     */
+    public BusImportRejectedException(String message) {
+        super(message);
+    }
+}
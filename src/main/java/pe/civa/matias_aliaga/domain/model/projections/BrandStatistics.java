@@ -0,0 +1,14 @@
+package pe.civa.matias_aliaga.domain.model.projections;
+
+import pe.civa.matias_aliaga.domain.model.valueobjects.BusBrands;
+
+/**
+ * Read-only projection of the number of buses of a brand.
+ *
+ * @param brand The brand of the buses
+ * @param total The number of buses of the brand
+ * @param active The number of active buses of the brand
+ * @param inactive The number of inactive buses of the brand
+ */
+public record BrandStatistics(BusBrands brand, long total, long active, long inactive) {
+}
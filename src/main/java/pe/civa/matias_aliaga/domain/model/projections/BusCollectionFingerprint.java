@@ -0,0 +1,19 @@
+package pe.civa.matias_aliaga.domain.model.projections;
+
+import java.util.Date;
+
+/**
+ * Read-only fingerprint of a set of buses, computed by the database without loading any row.
+ * Since buses are never deleted and are stamped on every write, any update on the set changes the last update.
+ * Identifiers are allocated in blocks per instance and stamped before commit, so a bus committed after a newer one
+ * may carry a lower identifier and an older timestamp than the maxima; the number of buses still changes.
+ *
+ * @param lastId The greatest identifier of the buses in the set, or null if the set is empty
+ * @param lastUpdatedAt The latest update timestamp of the buses in the set, or null if the set is empty
+ * @param count The number of buses in the set
+ */
+public record BusCollectionFingerprint(Long lastId, Date lastUpdatedAt, long count) {
+
+    /** Fingerprint of an empty set of buses */
+    public static final BusCollectionFingerprint EMPTY = new BusCollectionFingerprint(null, null, 0);
+}
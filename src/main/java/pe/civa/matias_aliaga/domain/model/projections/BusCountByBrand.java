@@ -0,0 +1,13 @@
+package pe.civa.matias_aliaga.domain.model.projections;
+
+import pe.civa.matias_aliaga.domain.model.valueobjects.BusBrands;
+
+/**
+ * Read-only projection of the number of buses sharing a brand and an active status.
+ *
+ * @param brand The brand of the buses
+ * @param isActive The active status of the buses
+ * @param count The number of buses of the brand with the given active status
+ */
+public record BusCountByBrand(BusBrands brand, boolean isActive, long count) {
+}
@@ -0,0 +1,21 @@
+package pe.civa.matias_aliaga.domain.model.projections;
+
+import java.util.List;
+
+/**
+ * Outcome of merging the validated lines of an import into the buses table.
+ *
+ * @param staged The number of lines loaded into the staging table
+ * @param inserted The number of buses created
+ * @param duplicateLines The lines whose bus number or license plate was already in use, up to the reporting limit
+ */
+public record BusImportMergeResult(long staged, long inserted, List<Long> duplicateLines) {
+
+    /**
+     * Gets the number of lines skipped because their bus already existed.
+     * @return The number of duplicated lines, including those beyond the reporting limit
+     */
+    public long duplicates() {
+        return staged - inserted;
+    }
+}
@@ -0,0 +1,38 @@
+package pe.civa.matias_aliaga.domain.model.projections;
+
+import pe.civa.matias_aliaga.domain.model.valueobjects.BusImportIssue;
+import pe.civa.matias_aliaga.domain.model.valueobjects.BusImportStatus;
+
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Read-only projection of the progress of a bus import.
+ *
+ * @param id The unique identifier of the import
+ * @param fileName The name of the imported file
+ * @param status The current state of the import
+ * @param linesRead The number of records read from the file so far
+ * @param linesRejected The number of records rejected because they are invalid
+ * @param busesImported The number of buses created, known once the import completes
+ * @param duplicates The number of valid records skipped because their bus already exists, known once the import completes
+ * @param issues The first problems found, invalid or duplicated records
+ * @param failure The reason the import failed, null unless it failed
+ * @param submittedAt The timestamp when the import was submitted
+ * @param finishedAt The timestamp when the import finished, null while it runs
+ */
+public record BusImportProgress(
+        UUID id,
+        String fileName,
+        BusImportStatus status,
+        long linesRead,
+        long linesRejected,
+        long busesImported,
+        long duplicates,
+        List<BusImportIssue> issues,
+        String failure,
+        Date submittedAt,
+        Date finishedAt
+) {
+}
@@ -0,0 +1,10 @@
+package pe.civa.matias_aliaga.domain.model.projections;
+
+/**
+ * Read-only projection of the license plate used by a bus.
+ *
+ * @param busId The unique identifier of the bus
+ * @param licensePlate The license plate of the bus
+ */
+public record BusLicensePlate(Long busId, String licensePlate) {
+}
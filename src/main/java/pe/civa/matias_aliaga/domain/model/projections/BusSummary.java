@@ -0,0 +1,49 @@
+package pe.civa.matias_aliaga.domain.model.projections;
+
+import pe.civa.matias_aliaga.domain.model.entities.Bus;
+import pe.civa.matias_aliaga.domain.model.valueobjects.BusBrands;
+
+import java.util.Date;
+
+/**
+ * Read-only projection of a bus and its brand.
+ * Usually built directly from query results, so listing buses does not hydrate managed entities.
+ *
+ * @param id The unique identifier of the bus
+ * @param licensePlate The license plate of the bus
+ * @param brand The brand of the bus
+ * @param characteristics The characteristics of the bus
+ * @param busNumber The bus number
+ * @param isActive The active status of the bus
+ * @param createdAt The timestamp when the bus was created
+ * @param updatedAt The timestamp when the bus was last updated, its version for conditional requests
+ */
+public record BusSummary(
+        Long id,
+        String licensePlate,
+        BusBrands brand,
+        String characteristics,
+        int busNumber,
+        boolean isActive,
+        Date createdAt,
+        Date updatedAt
+) {
+
+    /**
+     * Creates a summary from an already loaded bus entity.
+     * @param bus The bus entity, with its brand loaded
+     * @return The summary of the bus
+     */
+    public static BusSummary from(Bus bus) {
+        return new BusSummary(
+                bus.getId(),
+                bus.getLicensePlate().getValue(),
+                bus.getBrand().getName(),
+                bus.getCharacteristics(),
+                bus.getBusNumber(),
+                bus.isActive(),
+                bus.getCreatedAt(),
+                bus.getUpdatedAt()
+        );
+    }
+}
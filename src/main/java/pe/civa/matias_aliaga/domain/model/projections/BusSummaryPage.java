@@ -0,0 +1,14 @@
+package pe.civa.matias_aliaga.domain.model.projections;
+
+import org.springframework.data.domain.Slice;
+import pe.civa.matias_aliaga.domain.model.valueobjects.TotalCountMode;
+
+/**
+ * Read-only page of bus summaries with the total number of buses, when known.
+ *
+ * @param slice The bus summaries of the page and whether another page follows
+ * @param totalElements The total number of buses, or null if it was not computed
+ * @param totalMode How the total was obtained
+ */
+public record BusSummaryPage(Slice<BusSummary> slice, Long totalElements, TotalCountMode totalMode) {
+}
@@ -0,0 +1,12 @@
+package pe.civa.matias_aliaga.domain.model.projections;
+
+import java.util.Date;
+
+/**
+ * Read-only projection of the version of a bus, used to answer conditional requests.
+ *
+ * @param busId The unique identifier of the bus
+ * @param updatedAt The timestamp of the last update of the bus
+ */
+public record BusVersion(Long busId, Date updatedAt) {
+}
@@ -0,0 +1,14 @@
+package pe.civa.matias_aliaga.domain.model.projections;
+
+import java.util.List;
+
+/**
+ * Read-only projection of the number of buses in the fleet, overall and per brand.
+ *
+ * @param total The number of buses
+ * @param active The number of active buses
+ * @param inactive The number of inactive buses
+ * @param brands The number of buses of each brand, in the order of the BusBrands enum
+ */
+public record FleetStatistics(long total, long active, long inactive, List<BrandStatistics> brands) {
+}
@@ -0,0 +1,8 @@
+package pe.civa.matias_aliaga.domain.model.queries;
+
+/**
+ * Query to get a bus by its license plate.
+ * @param licensePlate License plate of the bus.
+ */
+public record GetBusByLicensePlateQuery(String licensePlate) {
+}
@@ -0,0 +1,10 @@
+package pe.civa.matias_aliaga.domain.model.queries;
+
+import pe.civa.matias_aliaga.domain.model.valueobjects.BusSearchCriteria;
+
+/**
+ * Query to get the fingerprint of the buses matching some filters.
+ * @param criteria Filters the buses must match.
+ */
+public record GetBusCollectionFingerprintQuery(BusSearchCriteria criteria) {
+}
@@ -0,0 +1,10 @@
+package pe.civa.matias_aliaga.domain.model.queries;
+
+import java.util.UUID;
+
+/**
+ * Query to get the progress of a bus import.
+ * @param importId Unique import identifier.
+ */
+public record GetBusImportQuery(UUID importId) {
+}
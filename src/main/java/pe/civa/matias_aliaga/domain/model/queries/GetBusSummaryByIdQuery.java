@@ -0,0 +1,8 @@
+package pe.civa.matias_aliaga.domain.model.queries;
+
+/**
+ * Query to get the summary of a bus by its ID.
+ * @param id Unique bus identifier.
+ */
+public record GetBusSummaryByIdQuery(Long id) {
+}
@@ -0,0 +1,14 @@
+package pe.civa.matias_aliaga.domain.model.queries;
+
+import org.springframework.data.domain.Pageable;
+import pe.civa.matias_aliaga.domain.model.valueobjects.BusSearchCriteria;
+import pe.civa.matias_aliaga.domain.model.valueobjects.TotalCountMode;
+
+/**
+ * Query to get a page of bus summaries using offset pagination.
+ * @param pageable Pagination parameters (page number, size, sorting).
+ * @param criteria Filters the buses must match.
+ * @param totals How the total number of buses should be obtained.
+ */
+public record GetBusSummaryPageQuery(Pageable pageable, BusSearchCriteria criteria, TotalCountMode totals) {
+}
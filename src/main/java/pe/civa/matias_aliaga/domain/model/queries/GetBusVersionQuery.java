@@ -0,0 +1,8 @@
+package pe.civa.matias_aliaga.domain.model.queries;
+
+/**
+ * Query to get the version of a bus, that is, the timestamp of its last update.
+ * @param id Unique bus identifier.
+ */
+public record GetBusVersionQuery(Long id) {
+}
@@ -0,0 +1,12 @@
+package pe.civa.matias_aliaga.domain.model.queries;
+
+import pe.civa.matias_aliaga.domain.model.valueobjects.BusSearchCriteria;
+
+/**
+ * Query to get a window of buses using keyset (cursor) pagination.
+ * @param afterId Identifier of the last bus already seen by the client, or null for the first window.
+ * @param limit Maximum number of buses to return.
+ * @param criteria Filters the buses must match.
+ */
+public record GetBusesAfterCursorQuery(Long afterId, int limit, BusSearchCriteria criteria) {
+}
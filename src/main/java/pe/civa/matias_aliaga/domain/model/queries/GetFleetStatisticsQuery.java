@@ -0,0 +1,7 @@
+package pe.civa.matias_aliaga.domain.model.queries;
+
+/**
+ * Query to get the number of buses grouped by brand and active status.
+ */
+public record GetFleetStatisticsQuery() {
+}
@@ -0,0 +1,12 @@
+package pe.civa.matias_aliaga.domain.model.queries;
+
+import org.springframework.data.domain.Sort;
+import pe.civa.matias_aliaga.domain.model.valueobjects.BusSearchCriteria;
+
+/**
+ * Query to stream all buses one by one, without materialising the whole fleet in memory.
+ * @param criteria Filters the buses must match.
+ * @param sort Order of the buses, the identifier is always used as the last tie-breaker.
+ */
+public record StreamAllBusesQuery(BusSearchCriteria criteria, Sort sort) {
+}
@@ -0,0 +1,37 @@
+package pe.civa.matias_aliaga.domain.model.valueobjects;
+
+/**
+ * Value object representing the outcome of creating a single bus inside a batch.
+ * Exactly one of busId or error is present.
+ *
+ * @param busId The identifier of the created bus, or null if the creation failed
+ * @param error The reason why the bus was not created, or null if it was created
+ */
+public record BusCreationResult(Long busId, String error) {
+
+    /**
+     * Creates a successful result.
+     * @param busId The identifier of the created bus
+     * @return A result holding the created bus identifier
+     */
+    public static BusCreationResult created(Long busId) {
+        return new BusCreationResult(busId, null);
+    }
+
+    /**
+     * Creates a failed result.
+     * @param error The reason why the bus was not created
+     * @return A result holding the error message
+     */
+    public static BusCreationResult failed(String error) {
+        return new BusCreationResult(null, error);
+    }
+
+    /**
+     * Indicates whether the bus was created.
+     * @return true if the bus was created, false otherwise
+     */
+    public boolean isCreated() {
+        return busId != null;
+    }
+}
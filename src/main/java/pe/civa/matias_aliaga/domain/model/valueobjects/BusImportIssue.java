@@ -0,0 +1,9 @@
+package pe.civa.matias_aliaga.domain.model.valueobjects;
+
+/**
+ * Problem found with a line of an imported CSV file.
+ * @param line The line of the file where the record starts, one-based
+ * @param message Description of the problem
+ */
+public record BusImportIssue(long line, String message) {
+}
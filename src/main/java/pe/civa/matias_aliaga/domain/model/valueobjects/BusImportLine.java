@@ -0,0 +1,11 @@
+package pe.civa.matias_aliaga.domain.model.valueobjects;
+
+import pe.civa.matias_aliaga.domain.model.entities.Bus;
+
+/**
+ * Validated bus read from a line of an imported CSV file, not persisted yet.
+ * @param line The line of the file where the record starts, one-based
+ * @param bus The bus described by the line
+ */
+public record BusImportLine(long line, Bus bus) {
+}
@@ -0,0 +1,15 @@
+package pe.civa.matias_aliaga.domain.model.valueobjects;
+
+/**
+ * Enumeration of the states a bus import goes through.
+ */
+public enum BusImportStatus {
+    /** Waiting for a previous import to finish */
+    QUEUED,
+    /** Reading the file and loading the buses */
+    RUNNING,
+    /** Every valid bus was merged into the fleet */
+    COMPLETED,
+    /** The import stopped without creating any bus */
+    FAILED
+}
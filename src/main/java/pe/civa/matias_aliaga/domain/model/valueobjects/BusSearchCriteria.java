@@ -0,0 +1,56 @@
+package pe.civa.matias_aliaga.domain.model.valueobjects;
+
+import java.util.Date;
+
+/**
+ * Value object holding the filters applied when listing buses.
+ * Every filter is optional, a null value means the filter is not applied.
+ *
+ * @param brand Brand of the buses
+ * @param isActive Active status of the buses
+ * @param busNumberFrom Lowest bus number, inclusive
+ * @param busNumberTo Highest bus number, inclusive
+ * @param createdFrom Earliest creation timestamp, inclusive
+ * @param createdTo Latest creation timestamp, exclusive
+ * @param characteristics Text contained in the characteristics, case-insensitive
+ */
+public record BusSearchCriteria(
+        BusBrands brand,
+        Boolean isActive,
+        Integer busNumberFrom,
+        Integer busNumberTo,
+        Date createdFrom,
+        Date createdTo,
+        String characteristics
+) {
+    /** Criteria that matches every bus */
+    private static final BusSearchCriteria NONE = new BusSearchCriteria(null, null, null, null, null, null, null);
+
+    /**
+     * Compact constructor validating the ranges and normalizing the characteristics filter.
+     * @throws IllegalArgumentException if a range has its lower bound after its upper bound
+     */
+    public BusSearchCriteria {
+        if (busNumberFrom != null && busNumberTo != null && busNumberFrom > busNumberTo)
+            throw new IllegalArgumentException("busNumberFrom must not be greater than busNumberTo");
+        if (createdFrom != null && createdTo != null && createdFrom.after(createdTo))
+            throw new IllegalArgumentException("createdFrom must not be after createdTo");
+        if (characteristics != null && characteristics.isBlank()) characteristics = null;
+    }
+
+    /**
+     * Gets the criteria that matches every bus.
+     * @return The criteria without filters
+     */
+    public static BusSearchCriteria none() {
+        return NONE;
+    }
+
+    /**
+     * Indicates whether no filter is applied.
+     * @return true if every bus matches the criteria, false otherwise
+     */
+    public boolean isEmpty() {
+        return this.equals(NONE);
+    }
+}
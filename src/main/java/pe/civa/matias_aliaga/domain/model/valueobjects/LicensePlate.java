@@ -6,6 +6,8 @@ import lombok.Getter;
 /**
  * Value object representing a bus license plate.
  * Enforces the format validation pattern A1A-123 where A is a letter and 1 is a digit.
+ * Since the format only allows 26·10·26·1000 combinations, every valid plate can also be
+ * represented by a compact integer code, computed without allocating or compiling any regex.
  */
 @Getter
 @Embeddable
@@ -13,6 +15,12 @@ public class LicensePlate {
     /** Validation pattern for license plate format: Letter-Digit-Letter-Hyphen-ThreeDigits */
     public static final String VALIDATION_PATTERN = "^[A-Z]\\d[A-Z]-\\d{3}$";
 
+    /** Number of distinct valid license plates, every code is in the range [0, CARDINALITY) */
+    public static final int CARDINALITY = 26 * 10 * 26 * 1000;
+
+    /** Length of a valid license plate */
+    private static final int LENGTH = 7;
+
     /** The license plate value */
     private String value;
 
@@ -22,7 +30,7 @@ public class LicensePlate {
      * @throws IllegalArgumentException if the value is null or doesn't match the required format
      */
     public LicensePlate(String value) {
-        if (value == null || !value.matches(VALIDATION_PATTERN)) {
+        if (encode(value) < 0) {
             throw new IllegalArgumentException("Invalid license plate format");
         }
         this.value = value;
@@ -35,4 +43,64 @@ public class LicensePlate {
 
     }
 
-}
\ No newline at end of file
+    /**
+     * Gets the compact integer code of this license plate.
+     * @return The code of the license plate, in the range [0, CARDINALITY)
+     */
+    public int getCode() {
+        return encode(value);
+    }
+
+    /**
+     * Checks whether a value matches the license plate format.
+     * @param value The value to check
+     * @return true if the value is a valid license plate, false otherwise
+     */
+    public static boolean isValid(CharSequence value) {
+        return encode(value) >= 0;
+    }
+
+    /**
+     * Encodes a license plate into its compact integer code.
+     * Equivalent to matching VALIDATION_PATTERN, but without any allocation.
+     * @param value The license plate to encode
+     * @return The code of the license plate, or -1 if the value doesn't match the required format
+     */
+    public static int encode(CharSequence value) {
+        if (value == null || value.length() != LENGTH) return -1;
+        int firstLetter = value.charAt(0) - 'A';
+        int digit = value.charAt(1) - '0';
+        int secondLetter = value.charAt(2) - 'A';
+        int hundreds = value.charAt(4) - '0';
+        int tens = value.charAt(5) - '0';
+        int units = value.charAt(6) - '0';
+        if (firstLetter < 0 || firstLetter > 25 || secondLetter < 0 || secondLetter > 25
+                || digit < 0 || digit > 9 || hundreds < 0 || hundreds > 9 || tens < 0 || tens > 9 || units < 0 || units > 9
+                || value.charAt(3) != '-') {
+            return -1;
+        }
+        return ((firstLetter * 10 + digit) * 26 + secondLetter) * 1000 + hundreds * 100 + tens * 10 + units;
+    }
+
+    /**
+     * Decodes a compact integer code back into its license plate.
+     * @param code The code of the license plate
+     * @return The license plate represented by the code
+     * @throws IllegalArgumentException if the code is out of range
+     */
+    public static String decode(int code) {
+        if (code < 0 || code >= CARDINALITY) throw new IllegalArgumentException("Invalid license plate code");
+        var chars = new char[LENGTH];
+        int number = code % 1000;
+        int prefix = code / 1000;
+        chars[6] = (char) ('0' + number % 10);
+        chars[5] = (char) ('0' + number / 10 % 10);
+        chars[4] = (char) ('0' + number / 100);
+        chars[3] = '-';
+        chars[2] = (char) ('A' + prefix % 26);
+        chars[1] = (char) ('0' + prefix / 26 % 10);
+        chars[0] = (char) ('A' + prefix / 260);
+        return new String(chars);
+    }
+
+}
@@ -0,0 +1,30 @@
+package pe.civa.matias_aliaga.domain.model.valueobjects;
+
+import java.util.Locale;
+
+/**
+ * Enumeration of the ways the total number of buses can be obtained when paging.
+ */
+public enum TotalCountMode {
+    /** The total is counted by the database on every page */
+    EXACT,
+    /** The total is estimated from the planner statistics of the buses table */
+    APPROXIMATE,
+    /** No total is computed, only whether another page follows */
+    NONE;
+
+    /**
+     * Creates a TotalCountMode enum value from a string representation, ignoring case.
+     * @param name The string representation of the mode
+     * @return The corresponding TotalCountMode enum value
+     * @throws IllegalArgumentException if the name is null or doesn't match any enum value
+     */
+    public static TotalCountMode fromString(String name) {
+        if (name == null) throw new IllegalArgumentException("Total count mode is null");
+        try {
+            return TotalCountMode.valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid totals " + name + ", expected exact, approximate or none");
+        }
+    }
+}
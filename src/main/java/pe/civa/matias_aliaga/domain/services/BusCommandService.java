@@ -1,7 +1,16 @@
 package pe.civa.matias_aliaga.domain.services;
 
 import pe.civa.matias_aliaga.domain.model.commands.CreateBusCommand;
+import pe.civa.matias_aliaga.domain.model.commands.CreateBusesCommand;
+import pe.civa.matias_aliaga.domain.model.commands.ImportBusesCommand;
+import pe.civa.matias_aliaga.domain.model.entities.Bus;
+import pe.civa.matias_aliaga.domain.model.valueobjects.BusCreationResult;
+
+import java.util.List;
+import java.util.UUID;
 
 public interface BusCommandService {
-    Long handle(CreateBusCommand command);
+    Bus handle(CreateBusCommand command);
+    List<BusCreationResult> handle(CreateBusesCommand command);
+    UUID handle(ImportBusesCommand command);
 }
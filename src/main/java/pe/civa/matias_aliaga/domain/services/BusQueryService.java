@@ -2,15 +2,41 @@ package pe.civa.matias_aliaga.domain.services;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import pe.civa.matias_aliaga.domain.model.entities.Bus;
+import pe.civa.matias_aliaga.domain.model.projections.BusCollectionFingerprint;
+import pe.civa.matias_aliaga.domain.model.projections.BusImportProgress;
+import pe.civa.matias_aliaga.domain.model.projections.BusSummary;
+import pe.civa.matias_aliaga.domain.model.projections.FleetStatistics;
+import pe.civa.matias_aliaga.domain.model.projections.BusSummaryPage;
 import pe.civa.matias_aliaga.domain.model.queries.GetAllBusesQuery;
+import pe.civa.matias_aliaga.domain.model.queries.GetBusCollectionFingerprintQuery;
 import pe.civa.matias_aliaga.domain.model.queries.GetBusByIdQuery;
+import pe.civa.matias_aliaga.domain.model.queries.GetBusByLicensePlateQuery;
+import pe.civa.matias_aliaga.domain.model.queries.GetBusImportQuery;
+import pe.civa.matias_aliaga.domain.model.queries.GetBusSummaryByIdQuery;
+import pe.civa.matias_aliaga.domain.model.queries.GetBusSummaryPageQuery;
+import pe.civa.matias_aliaga.domain.model.queries.GetBusVersionQuery;
+import pe.civa.matias_aliaga.domain.model.queries.GetBusesAfterCursorQuery;
+import pe.civa.matias_aliaga.domain.model.queries.GetFleetStatisticsQuery;
+import pe.civa.matias_aliaga.domain.model.queries.StreamAllBusesQuery;
 
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface BusQueryService {
     Optional<Bus> handle(GetBusByIdQuery query);
     List<Bus> handle(GetAllBusesQuery query);
     Page<Bus> handle(Pageable query);
+    Optional<BusSummary> handle(GetBusSummaryByIdQuery query);
+    Optional<BusSummary> handle(GetBusByLicensePlateQuery query);
+    BusSummaryPage handle(GetBusSummaryPageQuery query);
+    Window<BusSummary> handle(GetBusesAfterCursorQuery query);
+    void handle(StreamAllBusesQuery query, Consumer<BusSummary> consumer);
+    Optional<Date> handle(GetBusVersionQuery query);
+    BusCollectionFingerprint handle(GetBusCollectionFingerprintQuery query);
+    FleetStatistics handle(GetFleetStatisticsQuery query);
+    Optional<BusImportProgress> handle(GetBusImportQuery query);
 }
@@ -0,0 +1,115 @@
+package pe.civa.matias_aliaga.infrastructure.persistence.batching;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import pe.civa.matias_aliaga.domain.model.projections.BusSummary;
+import pe.civa.matias_aliaga.domain.model.projections.BusVersion;
+import pe.civa.matias_aliaga.infrastructure.persistence.jpa.repositories.BusRepository;
+import pe.civa.matias_aliaga.shared.infrastructure.concurrency.CoalescingBatchLoader;
+import pe.civa.matias_aliaga.shared.infrastructure.persistence.routing.ReadYourWritesContext;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Looks up buses by identifier, coalescing the concurrent lookups of GET /api/v1/buses/{id}.
+ * <p>
+ * Lookups of the same bus share one load. A lookup arriving while no other is in progress is loaded at once, and
+ * lookups of distinct buses arriving while a batch is loading are loaded together,
+ * with one IN query for the versions and one multi-load for the summaries, which reads the buses held by the
+ * second-level cache from it. Batches run in their own read-only transaction; lookups of clients pinned to the
+ * primary database after a write bypass the batches, so they always see their own writes.
+ */
+@Component
+public class BusLookupBatchLoader implements DisposableBean {
+
+    /** Repository for bus data access operations */
+    private final BusRepository repository;
+
+    /** Template running every batch in a read-only transaction */
+    private final TransactionTemplate readOnlyTransaction;
+
+    /** Loader of the summaries of the buses */
+    private final CoalescingBatchLoader<Long, BusSummary> summaries;
+
+    /** Loader of the last update timestamps of the buses */
+    private final CoalescingBatchLoader<Long, Date> versions;
+
+    /**
+     * Constructor for BusLookupBatchLoader.
+     * @param repository The bus repository for data access
+     * @param transactionManager The transaction manager running the batches
+     * @param meterRegistry The registry where the coalescing metrics are published
+     * @param window Time a lookup waits for other lookups before its batch is loaded, zero to disable batching
+     * @param maxBatchSize Number of lookups after which a batch is loaded without waiting for the window
+     */
+    @Autowired
+    public BusLookupBatchLoader(BusRepository repository, PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                                @Value("${civa.buses.lookup.batch-window:1ms}") Duration window,
+                                @Value("${civa.buses.lookup.max-batch-size:64}") int maxBatchSize) {
+        this.repository = repository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.summaries = new CoalescingBatchLoader<>("bus-summaries", this::loadSummaries, window, maxBatchSize, meterRegistry);
+        this.versions = new CoalescingBatchLoader<>("bus-versions", this::loadVersions, window, maxBatchSize, meterRegistry);
+    }
+
+    /**
+     * Finds the summary of a bus.
+     * @param id The bus ID
+     * @return Optional containing the bus summary if found, empty otherwise
+     */
+    public Optional<BusSummary> findSummary(Long id) {
+        if (ReadYourWritesContext.isPinnedToPrimary())
+            return Optional.ofNullable(loadSummaries(Set.of(id)).get(id));
+        return summaries.load(id);
+    }
+
+    /**
+     * Finds the timestamp of the last update of a bus.
+     * @param id The bus ID
+     * @return Optional containing the last update timestamp if the bus exists, empty otherwise
+     */
+    public Optional<Date> findVersion(Long id) {
+        if (ReadYourWritesContext.isPinnedToPrimary())
+            return Optional.ofNullable(loadVersions(Set.of(id)).get(id));
+        return versions.load(id);
+    }
+
+    @Override
+    public void destroy() {
+        summaries.close();
+        versions.close();
+    }
+
+    /**
+     * Loads the summaries of a batch of buses.
+     * @param ids The bus IDs
+     * @return The summaries of the buses found, by bus ID
+     */
+    private Map<Long, BusSummary> loadSummaries(Collection<Long> ids) {
+        return readOnlyTransaction.execute(status -> repository.findSummariesById(ids).stream()
+                .collect(Collectors.toMap(BusSummary::id, Function.identity())));
+    }
+
+    /**
+     * Loads the last update timestamps of a batch of buses.
+     * @param ids The bus IDs
+     * @return The last update timestamps of the buses found, by bus ID
+     */
+    private Map<Long, Date> loadVersions(Collection<Long> ids) {
+        return readOnlyTransaction.execute(status -> repository.findVersionsByIdIn(ids).stream()
+                .collect(Collectors.toMap(BusVersion::busId, BusVersion::updatedAt)));
+    }
+}
@@ -0,0 +1,99 @@
+package pe.civa.matias_aliaga.infrastructure.persistence.inmemory;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import pe.civa.matias_aliaga.domain.model.entities.BusBrand;
+import pe.civa.matias_aliaga.domain.model.valueobjects.BusBrands;
+import pe.civa.matias_aliaga.infrastructure.persistence.jpa.repositories.BusBrandRepository;
+
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory registry of the bus brands stored in the database.
+ * Bus brands are a closed set backed by the BusBrands enum, so they are loaded once
+ * and then resolved without any database round trip.
+ */
+@Component
+public class BusBrandRegistry {
+
+    /** Repository for bus brand data access operations */
+    private final BusBrandRepository repository;
+
+    /** Guards the first load; a lock instead of synchronized so waiting virtual threads do not pin their carrier */
+    private final ReentrantLock loadLock = new ReentrantLock();
+
+    /** Current immutable view of the bus brands, null until the first load */
+    private volatile Snapshot snapshot;
+
+    /**
+     * Constructor for BusBrandRegistry.
+     * @param repository The bus brand repository used to load the brands
+     */
+    @Autowired
+    public BusBrandRegistry(BusBrandRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Loads all bus brands from the database, replacing the current content of the registry.
+     * Expected to be called once the bus brands have been seeded; runs in a read-write transaction
+     * so that the brands are read from the primary database even if a replica is configured.
+     */
+    @Transactional
+    public void load() {
+        var brands = this.repository.findAll();
+        var byName = new EnumMap<BusBrands, BusBrand>(BusBrands.class);
+        brands.forEach(busBrand -> byName.put(busBrand.getName(), busBrand));
+        var ordered = brands.stream().sorted(Comparator.comparing(BusBrand::getId)).toList();
+        this.snapshot = new Snapshot(byName, ordered);
+    }
+
+    /**
+     * Finds a bus brand by its name.
+     * @param name The bus brand name to search for
+     * @return Optional containing the bus brand if registered, empty otherwise
+     */
+    public Optional<BusBrand> find(BusBrands name) {
+        return Optional.ofNullable(snapshot().byName().get(name));
+    }
+
+    /**
+     * Gets all registered bus brands ordered by identifier.
+     * The same immutable list instance is returned until the registry is reloaded.
+     * @return Immutable list of all bus brands
+     */
+    public List<BusBrand> getAll() {
+        return snapshot().all();
+    }
+
+    /**
+     * Gets the current snapshot, loading it on first use if the registry was not loaded yet.
+     * @return The current snapshot
+     */
+    private Snapshot snapshot() {
+        var current = this.snapshot;
+        if (current == null) {
+            loadLock.lock();
+            try {
+                if (this.snapshot == null) load();
+                current = this.snapshot;
+            } finally {
+                loadLock.unlock();
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Immutable view of the registered bus brands.
+     * @param byName Bus brands indexed by name, never modified after construction
+     * @param all Bus brands ordered by identifier
+     */
+    private record Snapshot(EnumMap<BusBrands, BusBrand> byName, List<BusBrand> all) {
+    }
+}
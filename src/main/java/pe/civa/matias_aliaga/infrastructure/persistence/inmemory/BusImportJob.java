@@ -0,0 +1,166 @@
+package pe.civa.matias_aliaga.infrastructure.persistence.inmemory;
+
+import pe.civa.matias_aliaga.domain.model.projections.BusImportMergeResult;
+import pe.civa.matias_aliaga.domain.model.projections.BusImportProgress;
+import pe.civa.matias_aliaga.domain.model.valueobjects.BusImportIssue;
+import pe.civa.matias_aliaga.domain.model.valueobjects.BusImportStatus;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of a bus import, updated by the thread running it and read by any request thread.
+ * Only the first issues are kept, so the memory used does not depend on the size of the file.
+ */
+public class BusImportJob {
+
+    /** Unique identifier of the import */
+    private final UUID id = UUID.randomUUID();
+
+    /** Name of the imported file */
+    private final String fileName;
+
+    /** Maximum number of issues kept */
+    private final int maxIssues;
+
+    /** First issues found */
+    private final List<BusImportIssue> issues = new ArrayList<>();
+
+    /** Number of records read so far */
+    private final AtomicLong linesRead = new AtomicLong();
+
+    /** Number of records rejected so far */
+    private final AtomicLong linesRejected = new AtomicLong();
+
+    /** Timestamp when the import was submitted */
+    private final Date submittedAt = new Date();
+
+    /** Current state */
+    private volatile BusImportStatus status = BusImportStatus.QUEUED;
+
+    /** Outcome of the merge, null until the import completes */
+    private volatile BusImportMergeResult result;
+
+    /** Reason of the failure, null unless the import failed */
+    private volatile String failure;
+
+    /** Timestamp when the import finished, null while it runs */
+    private volatile Date finishedAt;
+
+    /**
+     * Constructor for BusImportJob.
+     * @param fileName The name of the imported file
+     * @param maxIssues The maximum number of issues kept
+     */
+    public BusImportJob(String fileName, int maxIssues) {
+        this.fileName = fileName;
+        this.maxIssues = maxIssues;
+    }
+
+    /**
+     * Gets the unique identifier of the import.
+     * @return The import ID
+     */
+    public UUID getId() {
+        return id;
+    }
+
+    /**
+     * Indicates whether the import has finished, successfully or not.
+     * @return true if the import completed or failed, false otherwise
+     */
+    public boolean isFinished() {
+        return finishedAt != null;
+    }
+
+    /**
+     * Gets the timestamp when the import finished.
+     * @return The finish timestamp, or null while the import runs
+     */
+    public Date getFinishedAt() {
+        return finishedAt;
+    }
+
+    /**
+     * Marks the import as started.
+     */
+    public void start() {
+        this.status = BusImportStatus.RUNNING;
+    }
+
+    /**
+     * Counts a record read from the file.
+     */
+    public void lineRead() {
+        linesRead.incrementAndGet();
+    }
+
+    /**
+     * Counts a rejected record and keeps the reason if the issue limit is not reached.
+     * @param line The line where the record starts
+     * @param message The reason of the rejection
+     */
+    public void lineRejected(long line, String message) {
+        linesRejected.incrementAndGet();
+        addIssue(new BusImportIssue(line, message));
+    }
+
+    /**
+     * Marks the import as completed.
+     * @param result The outcome of the merge
+     */
+    public void complete(BusImportMergeResult result) {
+        result.duplicateLines().forEach(line -> addIssue(new BusImportIssue(line, "Bus number or license plate already in use.")));
+        this.result = result;
+        this.finishedAt = new Date();
+        this.status = BusImportStatus.COMPLETED;
+    }
+
+    /**
+     * Marks the import as failed; no bus was created.
+     * @param failure The reason of the failure
+     */
+    public void fail(String failure) {
+        this.failure = failure;
+        this.finishedAt = new Date();
+        this.status = BusImportStatus.FAILED;
+    }
+
+    /**
+     * Gets the current progress of the import.
+     * @return The progress projection
+     */
+    public BusImportProgress snapshot() {
+        List<BusImportIssue> currentIssues;
+        synchronized (issues) {
+            currentIssues = List.copyOf(issues);
+        }
+        var currentResult = this.result;
+        return new BusImportProgress(
+                id,
+                fileName,
+                status,
+                linesRead.get(),
+                linesRejected.get(),
+                currentResult == null ? 0 : currentResult.inserted(),
+                currentResult == null ? 0 : currentResult.duplicates(),
+                currentIssues,
+                failure,
+                submittedAt,
+                finishedAt
+        );
+    }
+
+    /**
+     * Keeps an issue if the limit is not reached.
+     * @param issue The issue to keep
+     */
+    private void addIssue(BusImportIssue issue) {
+        synchronized (issues) {
+            if (issues.size() < maxIssues) issues.add(issue);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package pe.civa.matias_aliaga.infrastructure.persistence.inmemory;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory registry of the bus imports submitted to this instance.
+ * Finished imports are forgotten once they are older than the retention period.
+ */
+@Component
+public class BusImportJobRegistry {
+
+    /** Maximum number of issues kept per import */
+    private static final int MAX_ISSUES = 100;
+
+    /** Imports by identifier */
+    private final Map<UUID, BusImportJob> jobs = new ConcurrentHashMap<>();
+
+    /** How long finished imports are kept */
+    private final Duration retention;
+
+    /**
+     * Constructor for BusImportJobRegistry.
+     * @param retention How long finished imports are kept
+     */
+    public BusImportJobRegistry(@Value("${civa.buses.import.retention:1h}") Duration retention) {
+        this.retention = retention;
+    }
+
+    /**
+     * Registers a new import, forgetting the finished imports past the retention period.
+     * @param fileName The name of the imported file
+     * @return The queued import
+     */
+    public BusImportJob create(String fileName) {
+        var threshold = System.currentTimeMillis() - retention.toMillis();
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().getTime() < threshold);
+        var job = new BusImportJob(fileName, MAX_ISSUES);
+        jobs.put(job.getId(), job);
+        return job;
+    }
+
+    /**
+     * Finds an import by its identifier.
+     * @param id The import ID
+     * @return Optional containing the import if known, empty otherwise
+     */
+    public Optional<BusImportJob> find(UUID id) {
+        return Optional.ofNullable(jobs.get(id));
+    }
+
+    /**
+     * Forgets an import, used when it could not be submitted.
+     * @param id The import ID
+     */
+    public void remove(UUID id) {
+        jobs.remove(id);
+    }
+}
@@ -0,0 +1,134 @@
+package pe.civa.matias_aliaga.infrastructure.persistence.inmemory;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import pe.civa.matias_aliaga.domain.model.projections.BrandStatistics;
+import pe.civa.matias_aliaga.domain.model.projections.FleetStatistics;
+import pe.civa.matias_aliaga.domain.model.valueobjects.BusBrands;
+import pe.civa.matias_aliaga.infrastructure.persistence.jpa.repositories.BusRepository;
+
+import java.util.ArrayList;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory counters of the buses per brand and active status.
+ * They are initialised with a single GROUP BY query at startup and incremented as buses are created,
+ * so reading the fleet statistics never touches the database regardless of the fleet size.
+ * <p>
+ * Increments only see the buses created by this instance, so the counters are periodically reconciled with the
+ * database; with several instances the statistics lag behind the buses created by the others by at most the
+ * reconciliation interval. A reload builds the new counters apart and swaps them in with a single write,
+ * while the increments arriving meanwhile are applied to both the current and the new counters.
+ */
+@Component
+public class FleetStatisticsCounters {
+
+    /** Brands, cached to avoid cloning the enum values on every read */
+    private static final BusBrands[] BRANDS = BusBrands.values();
+
+    /** Repository used to initialise the counters */
+    private final BusRepository busRepository;
+
+    /** One counter per brand and active status, at index brand.ordinal() * 2 + (isActive ? 1 : 0) */
+    private volatile LongAdder[] counters = newCounters();
+
+    /** Counters being built by a reload, which also receive the increments, null when no reload runs */
+    private volatile LongAdder[] reloading;
+
+    /** Whether the counters have been initialised from the database */
+    private volatile boolean loaded;
+
+    /**
+     * Constructor for FleetStatisticsCounters.
+     * @param busRepository The bus repository used to initialise the counters
+     */
+    @Autowired
+    public FleetStatisticsCounters(BusRepository busRepository) {
+        this.busRepository = busRepository;
+    }
+
+    /**
+     * Initialises the counters from the database, replacing their current values, and reconciles them periodically.
+     * Runs in a read-write transaction so the counts come from the primary database even if a replica is configured.
+     * Buses created while the query runs are counted in the new counters through their increments; one committed
+     * just before the query whose increment arrives after it starts is counted twice until the next reconciliation.
+     */
+    @Transactional
+    @Scheduled(initialDelayString = "${civa.buses.statistics.reconcile-interval:1m}",
+            fixedDelayString = "${civa.buses.statistics.reconcile-interval:1m}")
+    public synchronized void load() {
+        var fresh = newCounters();
+        this.reloading = fresh;
+        try {
+            for (var count : busRepository.countByBrandAndActive())
+                fresh[slot(count.brand(), count.isActive())].add(count.count());
+            this.counters = fresh;
+        } finally {
+            this.reloading = null;
+        }
+        this.loaded = true;
+    }
+
+    /**
+     * Indicates whether the counters have been initialised from the database.
+     * @return true if the counters include every bus persisted before startup, false otherwise
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Counts a newly created bus.
+     * @param brand The brand of the bus
+     * @param isActive The active status of the bus
+     */
+    public void increment(BusBrands brand, boolean isActive) {
+        var slot = slot(brand, isActive);
+        var reload = this.reloading;
+        var current = this.counters;
+        current[slot].increment();
+        if (reload != null && reload != current) reload[slot].increment();
+    }
+
+    /**
+     * Gets the current value of the counters.
+     * Each counter is read independently, so the totals may miss buses being created at the same time.
+     * @return The number of buses overall and per brand
+     */
+    public FleetStatistics snapshot() {
+        var brands = new ArrayList<BrandStatistics>(BRANDS.length);
+        long active = 0;
+        long inactive = 0;
+        var counters = this.counters;
+        for (var brand : BRANDS) {
+            var brandActive = counters[slot(brand, true)].sum();
+            var brandInactive = counters[slot(brand, false)].sum();
+            brands.add(new BrandStatistics(brand, brandActive + brandInactive, brandActive, brandInactive));
+            active += brandActive;
+            inactive += brandInactive;
+        }
+        return new FleetStatistics(active + inactive, active, inactive, brands);
+    }
+
+    /**
+     * Creates a set of counters at zero.
+     * @return One counter per brand and active status
+     */
+    private static LongAdder[] newCounters() {
+        var counters = new LongAdder[BRANDS.length * 2];
+        for (int i = 0; i < counters.length; i++) counters[i] = new LongAdder();
+        return counters;
+    }
+
+    /**
+     * Gets the position of the counter of a brand and active status.
+     * @param brand The brand of the buses
+     * @param isActive The active status of the buses
+     * @return The index of the counter
+     */
+    private static int slot(BusBrands brand, boolean isActive) {
+        return brand.ordinal() * 2 + (isActive ? 1 : 0);
+    }
+}
@@ -0,0 +1,216 @@
+package pe.civa.matias_aliaga.infrastructure.persistence.inmemory;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import pe.civa.matias_aliaga.domain.model.valueobjects.LicensePlate;
+import pe.civa.matias_aliaga.infrastructure.persistence.jpa.repositories.BusRepository;
+
+import java.util.Arrays;
+import java.util.OptionalLong;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * In-memory index from license plate codes to bus identifiers.
+ * Stores primitive int keys and long values in open-addressing arrays, so lookups
+ * neither allocate nor touch the database. It is warmed from the database at startup
+ * and kept in sync as buses are created; entries are never removed because buses cannot be deleted.
+ * A miss only means the plate was not seen by this instance, the database remains the source of truth.
+ */
+@Component
+public class LicensePlateIndex {
+    private static final Logger logger = LoggerFactory.getLogger(LicensePlateIndex.class);
+
+    /** Initial number of slots, always a power of two */
+    private static final int INITIAL_CAPACITY = 1024;
+
+    /** Repository used to warm the index */
+    private final BusRepository busRepository;
+
+    /** Guards writes; reads are optimistic and only fall back to a read lock when a write interferes */
+    private final StampedLock lock = new StampedLock();
+
+    /** Current table, replaced when it grows or when the index is reloaded */
+    private volatile Table table = new Table(INITIAL_CAPACITY);
+
+    /** Whether the index has been warmed from the database */
+    private volatile boolean loaded;
+
+    /**
+     * Constructor for LicensePlateIndex.
+     * @param busRepository The bus repository used to warm the index
+     */
+    @Autowired
+    public LicensePlateIndex(BusRepository busRepository) {
+        this.busRepository = busRepository;
+    }
+
+    /**
+     * Loads the license plate of every bus from the database.
+     * Entries added while loading are kept, so buses created concurrently are not lost.
+     * Plates stored before the current format was enforced cannot be encoded and are left out of the index,
+     * so their lookups fall back to the database.
+     */
+    @Transactional(readOnly = true)
+    public void load() {
+        var fresh = new Table(INITIAL_CAPACITY);
+        var skipped = 0;
+        try (var plates = busRepository.streamAllLicensePlates()) {
+            for (var iterator = plates.iterator(); iterator.hasNext(); ) {
+                var plate = iterator.next();
+                var code = LicensePlate.encode(plate.licensePlate());
+                if (code < 0) {
+                    skipped++;
+                    logger.debug("License plate {} of bus {} does not match the current format, not indexed",
+                            plate.licensePlate(), plate.busId());
+                    continue;
+                }
+                fresh = fresh.withRoomForOneMore();
+                fresh.put(code, plate.busId());
+            }
+        }
+        if (skipped > 0)
+            logger.warn("{} license plates do not match the current format and were not indexed", skipped);
+
+        long stamp = lock.writeLock();
+        try {
+            var current = this.table;
+            for (int slot = 0; slot < current.keys.length; slot++) {
+                if (current.keys[slot] != Table.EMPTY) {
+                    fresh = fresh.withRoomForOneMore();
+                    fresh.put(current.keys[slot], current.values[slot]);
+                }
+            }
+            this.table = fresh;
+            this.loaded = true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Indicates whether the index has been warmed from the database.
+     * @return true if the index holds every bus persisted before startup, false otherwise
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Registers the license plate of a bus.
+     * @param plateCode The license plate code, as returned by LicensePlate.encode
+     * @param busId The identifier of the bus using the license plate
+     */
+    public void put(int plateCode, long busId) {
+        if (plateCode < 0) throw new IllegalArgumentException("Invalid license plate code");
+        long stamp = lock.writeLock();
+        try {
+            var current = this.table.withRoomForOneMore();
+            current.put(plateCode, busId);
+            this.table = current;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Finds the bus using a license plate.
+     * @param plateCode The license plate code, as returned by LicensePlate.encode
+     * @return The identifier of the bus using the license plate, or empty if the plate is not indexed
+     */
+    public OptionalLong findBusId(int plateCode) {
+        long stamp = lock.tryOptimisticRead();
+        long busId = this.table.get(plateCode);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                busId = this.table.get(plateCode);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return busId < 0 ? OptionalLong.empty() : OptionalLong.of(busId);
+    }
+
+    /**
+     * Checks whether a license plate is indexed.
+     * @param plateCode The license plate code, as returned by LicensePlate.encode
+     * @return true if a bus is known to use the license plate, false otherwise
+     */
+    public boolean contains(int plateCode) {
+        return findBusId(plateCode).isPresent();
+    }
+
+    /**
+     * Gets the number of indexed license plates.
+     * @return The number of indexed license plates
+     */
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return this.table.size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Open-addressing hash table with linear probing, mapping int keys to long values.
+     * Kept at most half full so probe sequences stay short.
+     */
+    private static final class Table {
+        /** Marker of an unused slot, valid plate codes are never negative */
+        static final int EMPTY = -1;
+
+        final int[] keys;
+        final long[] values;
+        final int mask;
+        int size;
+
+        Table(int capacity) {
+            this.keys = new int[capacity];
+            this.values = new long[capacity];
+            this.mask = capacity - 1;
+            Arrays.fill(keys, EMPTY);
+        }
+
+        /**
+         * Returns a table able to hold one more entry: this one, or a copy twice as large.
+         */
+        Table withRoomForOneMore() {
+            if ((size + 1) * 2 <= keys.length) return this;
+            var grown = new Table(keys.length * 2);
+            for (int slot = 0; slot < keys.length; slot++) {
+                if (keys[slot] != EMPTY) grown.put(keys[slot], values[slot]);
+            }
+            return grown;
+        }
+
+        void put(int key, long value) {
+            int slot = slotOf(key);
+            while (keys[slot] != EMPTY && keys[slot] != key) slot = (slot + 1) & mask;
+            if (keys[slot] == EMPTY) size++;
+            values[slot] = value;
+            keys[slot] = key;
+        }
+
+        long get(int key) {
+            if (key < 0) return -1;
+            int slot = slotOf(key);
+            for (int probes = 0; probes < keys.length; probes++) {
+                int current = keys[slot];
+                if (current == key) return values[slot];
+                if (current == EMPTY) return -1;
+                slot = (slot + 1) & mask;
+            }
+            return -1;
+        }
+
+        int slotOf(int key) {
+            int hash = key * 0x9E3779B9;
+            return (hash ^ (hash >>> 16)) & mask;
+        }
+    }
+}
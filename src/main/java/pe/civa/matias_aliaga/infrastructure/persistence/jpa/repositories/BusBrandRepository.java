@@ -1,6 +1,9 @@
 package pe.civa.matias_aliaga.infrastructure.persistence.jpa.repositories;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import pe.civa.matias_aliaga.domain.model.entities.BusBrand;
 import pe.civa.matias_aliaga.domain.model.valueobjects.BusBrands;
@@ -10,6 +13,7 @@ import java.util.Optional;
 /**
  * Repository interface for BusBrand entity data access operations.
  * Extends JpaRepository to provide standard CRUD operations and custom query methods.
+ * Lookups by name are served from the "bus-brand-queries" query cache region.
  */
 @Repository
 public interface BusBrandRepository extends JpaRepository<BusBrand, Long> {
@@ -25,6 +29,10 @@ public interface BusBrandRepository extends JpaRepository<BusBrand, Long> {
      * @param name The bus brand name to check
      * @return true if the bus brand exists, false otherwise
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "bus-brand-queries")
+    })
     boolean existsBusBrandByName(BusBrands name);
 
     /**
@@ -32,5 +40,9 @@ public interface BusBrandRepository extends JpaRepository<BusBrand, Long> {
      * @param name The bus brand name to search for
      * @return Optional containing the bus brand if found, empty otherwise
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "bus-brand-queries")
+    })
     Optional<BusBrand> findByName(BusBrands name);
 }
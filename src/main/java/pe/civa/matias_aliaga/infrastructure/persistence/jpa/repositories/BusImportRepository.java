@@ -0,0 +1,23 @@
+package pe.civa.matias_aliaga.infrastructure.persistence.jpa.repositories;
+
+import pe.civa.matias_aliaga.domain.model.projections.BusImportMergeResult;
+import pe.civa.matias_aliaga.domain.model.valueobjects.BusImportLine;
+
+import java.util.Iterator;
+
+/**
+ * Repository fragment loading large numbers of buses with set-based statements.
+ */
+public interface BusImportRepository {
+
+    /**
+     * Loads buses into a staging table with the PostgreSQL COPY protocol and merges them into the buses table
+     * with a single statement, skipping those whose bus number or license plate is already in use.
+     * Lines are consumed as they are copied, so they can be produced lazily from a stream of any size.
+     * Must be called inside a transaction; the staging table is dropped when it ends.
+     * @param lines The validated lines to import, in file order
+     * @param maxReportedDuplicates The maximum number of duplicated lines to report
+     * @return The number of lines staged and buses created, and the first duplicated lines
+     */
+    BusImportMergeResult importBuses(Iterator<BusImportLine> lines, int maxReportedDuplicates);
+}
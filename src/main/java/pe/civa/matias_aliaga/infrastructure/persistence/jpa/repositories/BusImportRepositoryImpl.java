@@ -0,0 +1,182 @@
+package pe.civa.matias_aliaga.infrastructure.persistence.jpa.repositories;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import pe.civa.matias_aliaga.domain.model.projections.BusImportMergeResult;
+import pe.civa.matias_aliaga.domain.model.valueobjects.BusImportLine;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * JDBC implementation of the BusImportRepository fragment, using the COPY API of the PostgreSQL driver.
+ */
+public class BusImportRepositoryImpl implements BusImportRepository {
+
+    /** Number of characters buffered before they are sent to the COPY stream */
+    private static final int COPY_CHUNK_SIZE = 64 * 1024;
+
+    /** Number of identifiers reserved by every call to buses_seq, the allocation size of the entity identifiers */
+    private static final int ID_ALLOCATION_SIZE = 50;
+
+    /** Staging table, private to the connection and dropped with the transaction */
+    private static final String CREATE_STAGING_TABLE = """
+            create temp table bus_import_staging (
+                line bigint not null,
+                bus_number integer not null,
+                license_plate varchar(8) not null,
+                characteristics varchar(100),
+                brand_id bigint not null,
+                is_active boolean not null
+            ) on commit drop""";
+
+    private static final String COPY_INTO_STAGING_TABLE = """
+            copy bus_import_staging (line, bus_number, license_plate, characteristics, brand_id, is_active)
+            from stdin with (format csv)""";
+
+    /**
+     * Inserts the staged buses that do not conflict with existing ones, in file order, and returns the skipped lines.
+     * Identifiers are taken from buses_seq in blocks, the way Hibernate's pooled optimizer does, so they never collide
+     * with the identifiers allocated by the application: every value of the sequence owns the block of
+     * ID_ALLOCATION_SIZE identifiers ending at it.
+     */
+    private static final String MERGE_STAGING_TABLE = """
+            with candidates as (
+                select s.*, row_number() over (order by s.line) - 1 as position
+                from bus_import_staging s
+            ), blocks as (
+                select block, nextval('buses_seq') as high
+                from generate_series(0, (select (count(*) - 1) / %1$d from candidates)) as block
+            ), identified as (
+                select c.*, b.high - %1$d + 1 + c.position %% %1$d as id
+                from candidates c join blocks b on b.block = c.position / %1$d
+            ), inserted as (
+                insert into buses (id, bus_number, license_plate, characteristics, brand_id, is_active, created_at, updated_at)
+                select i.id, i.bus_number, i.license_plate, i.characteristics, i.brand_id, i.is_active, now(), now()
+                from identified i
+                order by i.line
+                on conflict do nothing
+                returning id
+            )
+            select i.line from identified i
+            where not exists (select 1 from inserted n where n.id = i.id)
+            order by i.line""".formatted(ID_ALLOCATION_SIZE);
+
+    /** Entity manager bound to the current transaction */
+    private final EntityManager entityManager;
+
+    /**
+     * Constructor for BusImportRepositoryImpl.
+     * @param entityManager The shared entity manager
+     */
+    public BusImportRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public BusImportMergeResult importBuses(Iterator<BusImportLine> lines, int maxReportedDuplicates) {
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (var statement = connection.createStatement()) {
+                statement.execute(CREATE_STAGING_TABLE);
+            }
+            var staged = copy(connection, lines);
+            if (staged == 0) return new BusImportMergeResult(0, 0, List.of());
+            return merge(connection, staged, maxReportedDuplicates);
+        });
+    }
+
+    /**
+     * Streams the lines into the staging table.
+     * @param connection The connection of the current transaction
+     * @param lines The lines to stage
+     * @return The number of lines staged
+     * @throws SQLException if the copy fails
+     */
+    private long copy(Connection connection, Iterator<BusImportLine> lines) throws SQLException {
+        var copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_INTO_STAGING_TABLE);
+        try {
+            var chunk = new StringBuilder(COPY_CHUNK_SIZE + 256);
+            while (lines.hasNext()) {
+                appendRow(chunk, lines.next());
+                if (chunk.length() >= COPY_CHUNK_SIZE) flush(copyIn, chunk);
+            }
+            flush(copyIn, chunk);
+            return copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) copyIn.cancelCopy();
+        }
+    }
+
+    /**
+     * Merges the staging table into the buses table.
+     * @param connection The connection of the current transaction
+     * @param staged The number of lines staged
+     * @param maxReportedDuplicates The maximum number of duplicated lines to report
+     * @return The outcome of the merge
+     * @throws SQLException if the merge fails
+     */
+    private BusImportMergeResult merge(Connection connection, long staged, int maxReportedDuplicates) throws SQLException {
+        var duplicateLines = new ArrayList<Long>();
+        long duplicates = 0;
+        try (var statement = connection.prepareStatement(MERGE_STAGING_TABLE)) {
+            statement.setFetchSize(1000);
+            try (var resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    if (duplicates++ < maxReportedDuplicates) duplicateLines.add(resultSet.getLong(1));
+                }
+            }
+        }
+        return new BusImportMergeResult(staged, staged - duplicates, duplicateLines);
+    }
+
+    /**
+     * Appends a line to the chunk as a CSV record matching the columns of the staging table.
+     * @param chunk The chunk being filled
+     * @param line The line to append
+     */
+    private static void appendRow(StringBuilder chunk, BusImportLine line) {
+        var bus = line.bus();
+        chunk.append(line.line()).append(',')
+                .append(bus.getBusNumber()).append(',')
+                .append(bus.getLicensePlate().getValue()).append(',');
+        appendQuoted(chunk, bus.getCharacteristics());
+        chunk.append(',').append(bus.getBrand().getId())
+                .append(',').append(bus.isActive())
+                .append('\n');
+    }
+
+    /**
+     * Appends a text value as a quoted CSV field, leaving the field unquoted and empty for null.
+     * @param chunk The chunk being filled
+     * @param value The value to append
+     */
+    private static void appendQuoted(StringBuilder chunk, String value) {
+        if (value == null) return;
+        chunk.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            var c = value.charAt(i);
+            if (c == '"') chunk.append('"');
+            chunk.append(c);
+        }
+        chunk.append('"');
+    }
+
+    /**
+     * Sends the buffered characters to the COPY stream and empties the chunk.
+     * @param copyIn The COPY operation
+     * @param chunk The chunk to send
+     * @throws SQLException if the characters cannot be sent
+     */
+    private static void flush(CopyIn copyIn, StringBuilder chunk) throws SQLException {
+        if (chunk.isEmpty()) return;
+        var bytes = chunk.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        chunk.setLength(0);
+    }
+}
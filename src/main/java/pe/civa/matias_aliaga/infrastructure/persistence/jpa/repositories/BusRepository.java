@@ -1,16 +1,72 @@
 package pe.civa.matias_aliaga.infrastructure.persistence.jpa.repositories;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import pe.civa.matias_aliaga.domain.model.entities.Bus;
+import pe.civa.matias_aliaga.domain.model.projections.BusCountByBrand;
+import pe.civa.matias_aliaga.domain.model.projections.BusLicensePlate;
+import pe.civa.matias_aliaga.domain.model.projections.BusSummary;
+import pe.civa.matias_aliaga.domain.model.projections.BusVersion;
 import pe.civa.matias_aliaga.domain.model.valueobjects.LicensePlate;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 /**
  * Repository interface for Bus entity data access operations.
- * Extends JpaRepository to provide standard CRUD operations and custom query methods.
+ * Extends JpaRepository to provide standard CRUD operations and custom query methods,
+ * supports filtering buses and their summaries with composable specifications,
+ * and loads imported buses in bulk.
  */
 @Repository
-public interface BusRepository extends JpaRepository<Bus, Long> {
+public interface BusRepository extends JpaRepository<Bus, Long>, JpaSpecificationExecutor<Bus>, BusSummaryRepository, BusImportRepository {
+
+    /** Select clause projecting a bus joined once with its brand into a BusSummary */
+    String SELECT_SUMMARY = "select new pe.civa.matias_aliaga.domain.model.projections.BusSummary("
+            + "b.id, b.licensePlate.value, br.name, b.characteristics, b.busNumber, b.isActive, b.createdAt, b.updatedAt) "
+            + "from Bus b join b.brand br";
+
+    /**
+     * Finds a bus by its unique identifier, together with its brand.
+     * Buses held by the second-level cache are still read from it.
+     * @param id The bus ID
+     * @return Optional containing the bus if found, empty otherwise
+     */
+    @Override
+    @EntityGraph(attributePaths = "brand")
+    Optional<Bus> findById(Long id);
+
+    /**
+     * Finds all buses with their brands in a single query.
+     * Buses are loaded read-only, so Hibernate keeps no snapshot of them for dirty checking.
+     * @return List of all buses
+     */
+    @Override
+    @EntityGraph(attributePaths = "brand")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<Bus> findAll();
+
+    /**
+     * Finds a page of buses with their brands, joined in the same query.
+     * Buses are loaded read-only, so Hibernate keeps no snapshot of them for dirty checking.
+     * @param pageable The pagination parameters (page number, size, sorting)
+     * @return Page of buses
+     */
+    @Override
+    @EntityGraph(attributePaths = "brand")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    Page<Bus> findAll(Pageable pageable);
+
     /**
      * Checks if a bus exists by its unique identifier.
      * @param id The bus ID to check
@@ -25,4 +81,57 @@ public interface BusRepository extends JpaRepository<Bus, Long> {
      * @return true if a bus with this combination exists, false otherwise
      */
     boolean existsBusByLicensePlateAndBusNumber(LicensePlate licensePlate, int busNumber);
+
+    /**
+     * Finds the buses that already use any of the given bus numbers or license plates.
+     * Used to detect duplicates for a whole batch with a single query; the buses are loaded read-only
+     * and without their brands, since only their bus numbers and license plates are compared.
+     * @param busNumbers The bus numbers to check
+     * @param licensePlates The license plate values to check
+     * @return List of buses conflicting with at least one of the given values
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("select b from Bus b where b.busNumber in :busNumbers or b.licensePlate.value in :licensePlates")
+    List<Bus> findByBusNumberInOrLicensePlateIn(Collection<Integer> busNumbers, Collection<String> licensePlates);
+
+    /**
+     * Finds the timestamps of the last update of the given buses, without loading them.
+     * @param ids The bus IDs
+     * @return List of the versions of the buses found, in no particular order
+     */
+    @Query("select new pe.civa.matias_aliaga.domain.model.projections.BusVersion(b.id, b.updatedAt) from Bus b where b.id in :ids")
+    List<BusVersion> findVersionsByIdIn(Collection<Long> ids);
+
+    /**
+     * Estimates the number of buses from the planner statistics of the buses table, without scanning it.
+     * The estimate is refreshed by autovacuum and ANALYZE, so it may lag behind recent inserts.
+     * @return The estimated number of buses, or a negative value if the table was never analyzed or cannot be found
+     */
+    @Query(value = "select coalesce((select cast(reltuples as bigint) from pg_class where oid = to_regclass('buses')), -1)", nativeQuery = true)
+    long estimateCount();
+
+    /**
+     * Finds the summary of a bus by its license plate.
+     * @param licensePlate The license plate value to search for
+     * @return Optional containing the bus summary if found, empty otherwise
+     */
+    @Query(SELECT_SUMMARY + " where b.licensePlate.value = :licensePlate")
+    Optional<BusSummary> findSummaryByLicensePlate(String licensePlate);
+
+    /**
+     * Streams the license plate of every bus.
+     * The stream must be consumed and closed inside a transaction.
+     * @return Stream of bus identifiers and their license plates
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new pe.civa.matias_aliaga.domain.model.projections.BusLicensePlate(b.id, b.licensePlate.value) from Bus b")
+    Stream<BusLicensePlate> streamAllLicensePlates();
+
+    /**
+     * Counts the buses grouped by brand and active status.
+     * @return List with the number of buses of each brand and active status that has at least one bus
+     */
+    @Query("select new pe.civa.matias_aliaga.domain.model.projections.BusCountByBrand(br.name, b.isActive, count(b)) "
+            + "from Bus b join b.brand br group by br.name, b.isActive")
+    List<BusCountByBrand> countByBrandAndActive();
 }
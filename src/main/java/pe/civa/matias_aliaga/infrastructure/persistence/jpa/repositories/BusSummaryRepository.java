@@ -0,0 +1,73 @@
+package pe.civa.matias_aliaga.infrastructure.persistence.jpa.repositories;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import pe.civa.matias_aliaga.domain.model.entities.Bus;
+import pe.civa.matias_aliaga.domain.model.projections.BusCollectionFingerprint;
+import pe.civa.matias_aliaga.domain.model.projections.BusSummary;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Repository fragment reading bus summaries filtered by specifications.
+ * Summaries are projected in the database, joining the brands table once, so no entity is loaded.
+ */
+public interface BusSummaryRepository {
+
+    /**
+     * Finds the summaries of the buses with the given identifiers.
+     * Buses held by the second-level cache are read from it; the others are loaded with a single query.
+     * @param ids The identifiers of the buses
+     * @return List of the summaries of the buses found, in no particular order
+     */
+    List<BusSummary> findSummariesById(Collection<Long> ids);
+
+    /**
+     * Finds a page of the summaries of the buses matching a specification.
+     * @param specification The filters the buses must match
+     * @param pageable The pagination parameters (page number, size, sorting)
+     * @return Page of bus summaries
+     */
+    Page<BusSummary> findSummaries(Specification<Bus> specification, Pageable pageable);
+
+    /**
+     * Finds a slice of the summaries of the buses matching a specification, without counting them.
+     * One extra row is fetched to find out whether another slice follows.
+     * @param specification The filters the buses must match
+     * @param pageable The pagination parameters (page number, size, sorting)
+     * @return Slice of bus summaries
+     */
+    Slice<BusSummary> findSummarySlice(Specification<Bus> specification, Pageable pageable);
+
+    /**
+     * Finds the summaries of the buses matching a specification whose identifier is greater than the given one,
+     * ordered by identifier.
+     * @param specification The filters the buses must match
+     * @param id The identifier of the last bus already returned
+     * @param limit The maximum number of summaries to return
+     * @return List of bus summaries following the given identifier
+     */
+    List<BusSummary> findSummariesAfter(Specification<Bus> specification, Long id, int limit);
+
+    /**
+     * Streams the summaries of the buses matching a specification.
+     * Rows are fetched from the database in chunks through a server-side cursor,
+     * so the stream must be consumed and closed inside a transaction.
+     * @param specification The filters the buses must match
+     * @param sort The order of the summaries, the identifier is always used as the last tie-breaker
+     * @return Stream of bus summaries
+     */
+    Stream<BusSummary> streamSummaries(Specification<Bus> specification, Sort sort);
+
+    /**
+     * Computes the fingerprint of the buses matching a specification with a single aggregate query.
+     * @param specification The filters the buses must match
+     * @return The greatest identifier, the latest update timestamp and the number of the matching buses
+     */
+    BusCollectionFingerprint fingerprint(Specification<Bus> specification);
+}
@@ -0,0 +1,150 @@
+package pe.civa.matias_aliaga.infrastructure.persistence.jpa.repositories;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import pe.civa.matias_aliaga.domain.model.entities.Bus;
+import pe.civa.matias_aliaga.domain.model.entities.BusBrand;
+import pe.civa.matias_aliaga.domain.model.projections.BusCollectionFingerprint;
+import pe.civa.matias_aliaga.domain.model.projections.BusSummary;
+import pe.civa.matias_aliaga.infrastructure.persistence.jpa.specifications.BusSpecifications;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Criteria API implementation of the BusSummaryRepository fragment.
+ */
+public class BusSummaryRepositoryImpl implements BusSummaryRepository {
+
+    /** Number of rows fetched per round trip when streaming summaries */
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    /** Entity manager bound to the current transaction */
+    private final EntityManager entityManager;
+
+    /**
+     * Constructor for BusSummaryRepositoryImpl.
+     * @param entityManager The shared entity manager
+     */
+    public BusSummaryRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<BusSummary> findSummariesById(Collection<Long> ids) {
+        if (ids.isEmpty()) return List.of();
+        return entityManager.unwrap(Session.class)
+                .byMultipleIds(Bus.class)
+                .with(CacheMode.NORMAL)
+                .withBatchSize(ids.size())
+                .multiLoad(List.copyOf(ids))
+                .stream()
+                .filter(Objects::nonNull)
+                .map(BusSummary::from)
+                .toList();
+    }
+
+    @Override
+    public Page<BusSummary> findSummaries(Specification<Bus> specification, Pageable pageable) {
+        var query = createSummaryQuery(specification, pageable.getSort());
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        return PageableExecutionUtils.getPage(query.getResultList(), pageable, () -> count(specification));
+    }
+
+    @Override
+    public Slice<BusSummary> findSummarySlice(Specification<Bus> specification, Pageable pageable) {
+        var query = createSummaryQuery(specification, pageable.getSort());
+        if (pageable.isUnpaged()) return new SliceImpl<>(query.getResultList(), pageable, false);
+        var content = query.setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+        var hasNext = content.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+    }
+
+    @Override
+    public List<BusSummary> findSummariesAfter(Specification<Bus> specification, Long id, int limit) {
+        return createSummaryQuery(specification.and(BusSpecifications.idGreaterThan(id)), Sort.unsorted())
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public Stream<BusSummary> streamSummaries(Specification<Bus> specification, Sort sort) {
+        return createSummaryQuery(specification, sort)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .getResultStream();
+    }
+
+    @Override
+    public BusCollectionFingerprint fingerprint(Specification<Bus> specification) {
+        var cb = entityManager.getCriteriaBuilder();
+        var query = cb.createQuery(BusCollectionFingerprint.class);
+        var bus = query.from(Bus.class);
+        query.select(cb.construct(BusCollectionFingerprint.class, cb.max(bus.<Long>get("id")), cb.greatest(bus.<Date>get("updatedAt")), cb.count(bus)));
+        var predicate = specification.toPredicate(bus, query, cb);
+        if (predicate != null) query.where(predicate);
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    /**
+     * Creates the query projecting the buses matching a specification into summaries.
+     * @param specification The filters the buses must match
+     * @param sort The order of the summaries, completed with the identifier as tie-breaker
+     * @return The summary query
+     */
+    private TypedQuery<BusSummary> createSummaryQuery(Specification<Bus> specification, Sort sort) {
+        var cb = entityManager.getCriteriaBuilder();
+        var query = cb.createQuery(BusSummary.class);
+        var bus = query.from(Bus.class);
+        var brand = bus.<Bus, BusBrand>join("brand");
+        query.select(cb.construct(BusSummary.class,
+                bus.get("id"),
+                bus.get("licensePlate").get("value"),
+                brand.get("name"),
+                bus.get("characteristics"),
+                bus.get("busNumber"),
+                bus.get("isActive"),
+                bus.get("createdAt"),
+                bus.get("updatedAt")));
+
+        var predicate = specification.toPredicate(bus, query, cb);
+        if (predicate != null) query.where(predicate);
+
+        var order = sort.getOrderFor("id") == null ? sort.and(Sort.by("id")) : sort;
+        query.orderBy(QueryUtils.toOrders(order, bus, cb));
+        return entityManager.createQuery(query);
+    }
+
+    /**
+     * Counts the buses matching a specification, without joining the brands table.
+     * @param specification The filters the buses must match
+     * @return The number of matching buses
+     */
+    private long count(Specification<Bus> specification) {
+        var cb = entityManager.getCriteriaBuilder();
+        var query = cb.createQuery(Long.class);
+        var bus = query.from(Bus.class);
+        query.select(cb.count(bus));
+        var predicate = specification.toPredicate(bus, query, cb);
+        if (predicate != null) query.where(predicate);
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
@@ -0,0 +1,111 @@
+package pe.civa.matias_aliaga.infrastructure.persistence.jpa.specifications;
+
+import org.springframework.data.jpa.domain.Specification;
+import pe.civa.matias_aliaga.domain.model.entities.Bus;
+import pe.civa.matias_aliaga.domain.model.entities.BusBrand;
+import pe.civa.matias_aliaga.domain.model.valueobjects.BusSearchCriteria;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Locale;
+
+/**
+ * Composable specifications used to filter buses.
+ * Each specification restricts a single column so that the database can use the matching index:
+ * brand and active status share the (brand_id, is_active) index, the creation range uses the created_at index,
+ * and the characteristics search uses the trigram index on lower(characteristics).
+ */
+public final class BusSpecifications {
+
+    /** Character used to escape LIKE wildcards contained in the searched text */
+    private static final char LIKE_ESCAPE = '\\';
+
+    private BusSpecifications() {
+    }
+
+    /**
+     * Restricts the buses to the given brand, comparing the brand foreign key without joining the brands table.
+     * @param brand The brand of the buses
+     * @return Specification matching the buses of the brand
+     */
+    public static Specification<Bus> hasBrand(BusBrand brand) {
+        return (root, query, cb) -> cb.equal(root.get("brand"), brand);
+    }
+
+    /**
+     * Restricts the buses to the given active status.
+     * @param isActive The active status of the buses
+     * @return Specification matching the buses with the active status
+     */
+    public static Specification<Bus> isActive(boolean isActive) {
+        return (root, query, cb) -> cb.equal(root.get("isActive"), isActive);
+    }
+
+    /**
+     * Restricts the bus numbers to a range, either bound may be null to leave it open.
+     * @param from The lowest bus number, inclusive
+     * @param to The highest bus number, inclusive
+     * @return Specification matching the buses whose number is in the range
+     */
+    public static Specification<Bus> busNumberBetween(Integer from, Integer to) {
+        return (root, query, cb) -> {
+            if (from != null && to != null) return cb.between(root.get("busNumber"), from, to);
+            if (from != null) return cb.greaterThanOrEqualTo(root.get("busNumber"), from);
+            return to == null ? null : cb.lessThanOrEqualTo(root.get("busNumber"), to);
+        };
+    }
+
+    /**
+     * Restricts the creation timestamps to a range, either bound may be null to leave it open.
+     * @param from The earliest creation timestamp, inclusive
+     * @param to The latest creation timestamp, exclusive
+     * @return Specification matching the buses created in the range
+     */
+    public static Specification<Bus> createdBetween(Date from, Date to) {
+        return (root, query, cb) -> {
+            var lower = from == null ? null : cb.greaterThanOrEqualTo(root.<Date>get("createdAt"), from);
+            var upper = to == null ? null : cb.lessThan(root.<Date>get("createdAt"), to);
+            if (lower != null && upper != null) return cb.and(lower, upper);
+            return lower != null ? lower : upper;
+        };
+    }
+
+    /**
+     * Restricts the buses to those whose characteristics contain the given text, ignoring case.
+     * @param text The text to look for
+     * @return Specification matching the buses whose characteristics contain the text
+     */
+    public static Specification<Bus> characteristicsContain(String text) {
+        var pattern = "%" + escapeLike(text.toLowerCase(Locale.ROOT)) + "%";
+        return (root, query, cb) -> cb.like(cb.lower(root.get("characteristics")), pattern, LIKE_ESCAPE);
+    }
+
+    /**
+     * Restricts the buses to those whose identifier is greater than the given one.
+     * @param id The identifier of the last bus already returned
+     * @return Specification matching the buses following the identifier
+     */
+    public static Specification<Bus> idGreaterThan(Long id) {
+        return (root, query, cb) -> cb.greaterThan(root.get("id"), id);
+    }
+
+    /**
+     * Combines every filter of the criteria except the brand, which must be resolved to an entity first.
+     * @param criteria The search criteria
+     * @return Specification matching the buses that satisfy every filter of the criteria
+     */
+    public static Specification<Bus> matching(BusSearchCriteria criteria) {
+        var specifications = new ArrayList<Specification<Bus>>();
+        if (criteria.isActive() != null) specifications.add(isActive(criteria.isActive()));
+        if (criteria.busNumberFrom() != null || criteria.busNumberTo() != null)
+            specifications.add(busNumberBetween(criteria.busNumberFrom(), criteria.busNumberTo()));
+        if (criteria.createdFrom() != null || criteria.createdTo() != null)
+            specifications.add(createdBetween(criteria.createdFrom(), criteria.createdTo()));
+        if (criteria.characteristics() != null) specifications.add(characteristicsContain(criteria.characteristics()));
+        return Specification.allOf(specifications);
+    }
+
+    private static String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
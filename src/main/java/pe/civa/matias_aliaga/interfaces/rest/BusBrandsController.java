@@ -1,22 +1,39 @@
 package pe.civa.matias_aliaga.interfaces.rest;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import pe.civa.matias_aliaga.domain.model.entities.BusBrand;
 import pe.civa.matias_aliaga.domain.model.queries.GetAllBusBrandsQuery;
 import pe.civa.matias_aliaga.domain.services.BusBrandQueryService;
 import pe.civa.matias_aliaga.interfaces.rest.resources.BusBrandResource;
 import pe.civa.matias_aliaga.interfaces.rest.transform.BusBrandResourceFromEntityAssembler;
+import pe.civa.matias_aliaga.shared.interfaces.rest.negotiation.PayloadFormat;
 
+import java.time.Duration;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+
+import static org.springframework.http.MediaType.APPLICATION_CBOR_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static pe.civa.matias_aliaga.shared.interfaces.rest.negotiation.PayloadFormat.APPLICATION_SMILE_VALUE;
 
 /**
  * REST controller for managing bus brands.
@@ -24,28 +41,49 @@ import java.util.List;
  * Supports CORS for frontend integration on localhost:5173.
  */
 @RestController
-@RequestMapping(value = "/api/v1/bus-brands", produces = "application/json")
+@RequestMapping(value = "/api/v1/bus-brands", produces = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
 @Tag( name = "Bus Brands", description = "Endpoint for managing bus brands")
 @CrossOrigin(origins = "*")
 public class BusBrandsController {
-    
+
+    /** How long clients and intermediaries may cache the bus brand catalogue */
+    private static final Duration CATALOGUE_MAX_AGE = Duration.ofDays(1);
+    /** Formats the catalogue can be sent in, JSON is used when the client accepts anything */
+    private static final PayloadFormat[] CATALOGUE_FORMATS = {PayloadFormat.JSON, PayloadFormat.CBOR, PayloadFormat.SMILE};
+
     /** Service for handling bus brand query operations */
     private final BusBrandQueryService busBrandQueryService;
-    
+    /** Object mappers used to serialise the catalogue once per format */
+    private final Map<PayloadFormat, ObjectMapper> objectMappers;
+    /** Serialised catalogue, rebuilt only when the underlying brand list changes */
+    private volatile SerializedCatalogue catalogue;
+
     /**
      * Constructor for BusBrandsController.
      * @param busBrandQueryService The service for bus brand query operations
+     * @param objectMapper The application object mapper
+     * @param cborConverter The CBOR message converter
+     * @param smileConverter The Smile message converter
      */
     @Autowired
-    public BusBrandsController(BusBrandQueryService busBrandQueryService) {
+    public BusBrandsController(BusBrandQueryService busBrandQueryService, ObjectMapper objectMapper,
+                               MappingJackson2CborHttpMessageConverter cborConverter, MappingJackson2SmileHttpMessageConverter smileConverter) {
         this.busBrandQueryService = busBrandQueryService;
+        this.objectMappers = new EnumMap<>(Map.of(
+                PayloadFormat.JSON, objectMapper,
+                PayloadFormat.CBOR, cborConverter.getObjectMapper(),
+                PayloadFormat.SMILE, smileConverter.getObjectMapper()
+        ));
     }
 
     /**
      * Retrieves all available bus brands.
      * Returns a list of all bus brands currently stored in the system.
+     * The catalogue is serialised once per format and served as bytes with long-lived cache headers.
      *
-     * @return ResponseEntity containing a list of BusBrandResource objects
+     * @param accept The Accept header sent by the client
+     * @return ResponseEntity containing the serialised list of BusBrandResource objects
+     * @throws JsonProcessingException if the catalogue cannot be serialised
      */
     @GetMapping
     @Operation(
@@ -53,16 +91,41 @@ public class BusBrandsController {
             description = "Retrieve a list of all bus brands",
             operationId = "getAllBusBrands",
             responses = {
-                    @ApiResponse(responseCode = "200", description = "List of bus brands retrieved successfully", content = @Content(mediaType = "application/json", schema = @Schema(implementation = List.class))),
+                    @ApiResponse(responseCode = "200", description = "List of bus brands retrieved successfully", content = {
+                            @Content(mediaType = APPLICATION_JSON_VALUE, array = @ArraySchema(schema = @Schema(implementation = BusBrandResource.class))),
+                            @Content(mediaType = APPLICATION_CBOR_VALUE, array = @ArraySchema(schema = @Schema(implementation = BusBrandResource.class))),
+                            @Content(mediaType = APPLICATION_SMILE_VALUE, array = @ArraySchema(schema = @Schema(implementation = BusBrandResource.class)))
+                    }),
                     @ApiResponse(responseCode = "500", description = "Internal server error")
             }
     )
-    public ResponseEntity<List<BusBrandResource>> getAllBusBrands() {
+    public ResponseEntity<byte[]> getAllBusBrands(@RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) throws JsonProcessingException {
         var getAllBusBrandsQuery = new GetAllBusBrandsQuery();
         var busBrands = this.busBrandQueryService.handle(getAllBusBrandsQuery);
-        var busBrandResources = busBrands.stream().map(BusBrandResourceFromEntityAssembler::toResource).toList();
-        
-        return ResponseEntity.ok(busBrandResources);
+
+        var current = this.catalogue;
+        if (current == null || current.source() != busBrands) {
+            var busBrandResources = busBrands.stream().map(BusBrandResourceFromEntityAssembler::toResource).toList();
+            var payloads = new EnumMap<PayloadFormat, byte[]>(PayloadFormat.class);
+            for (var entry : this.objectMappers.entrySet())
+                payloads.put(entry.getKey(), entry.getValue().writeValueAsBytes(busBrandResources));
+            current = new SerializedCatalogue(busBrands, payloads);
+            this.catalogue = current;
+        }
+
+        var format = PayloadFormat.negotiate(accept, CATALOGUE_FORMATS);
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .cacheControl(CacheControl.maxAge(CATALOGUE_MAX_AGE).cachePublic())
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(current.payloads().get(format));
+    }
+
+    /**
+     * Serialised forms of the bus brand catalogue.
+     * @param source The brand list the catalogue was built from, compared by identity
+     * @param payloads The catalogue serialised as an array of BusBrandResource in every supported format
+     */
+    private record SerializedCatalogue(List<BusBrand> source, Map<PayloadFormat, byte[]> payloads) {
     }
-    
 }
@@ -1,61 +1,162 @@
 package pe.civa.matias_aliaga.interfaces.rest;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import pe.civa.matias_aliaga.domain.model.entities.Bus;
-import pe.civa.matias_aliaga.domain.model.queries.GetAllBusesQuery;
-import pe.civa.matias_aliaga.domain.model.queries.GetBusByIdQuery;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import pe.civa.matias_aliaga.domain.model.commands.CreateBusCommand;
+import pe.civa.matias_aliaga.domain.model.commands.CreateBusesCommand;
+import pe.civa.matias_aliaga.domain.model.commands.ImportBusesCommand;
+import pe.civa.matias_aliaga.domain.model.queries.GetBusByLicensePlateQuery;
+import pe.civa.matias_aliaga.domain.model.queries.GetBusCollectionFingerprintQuery;
+import pe.civa.matias_aliaga.domain.model.queries.GetBusImportQuery;
+import pe.civa.matias_aliaga.domain.model.queries.GetBusSummaryByIdQuery;
+import pe.civa.matias_aliaga.domain.model.queries.GetBusSummaryPageQuery;
+import pe.civa.matias_aliaga.domain.model.queries.GetBusVersionQuery;
+import pe.civa.matias_aliaga.domain.model.queries.GetBusesAfterCursorQuery;
+import pe.civa.matias_aliaga.domain.model.queries.GetFleetStatisticsQuery;
+import pe.civa.matias_aliaga.domain.model.queries.StreamAllBusesQuery;
+import pe.civa.matias_aliaga.domain.model.valueobjects.BusCreationResult;
+import pe.civa.matias_aliaga.domain.model.valueobjects.BusSearchCriteria;
+import pe.civa.matias_aliaga.domain.model.valueobjects.TotalCountMode;
 import pe.civa.matias_aliaga.domain.services.BusCommandService;
 import pe.civa.matias_aliaga.domain.services.BusQueryService;
+import pe.civa.matias_aliaga.interfaces.rest.resources.BusBatchItemResource;
+import pe.civa.matias_aliaga.interfaces.rest.resources.BusBatchResultResource;
+import pe.civa.matias_aliaga.interfaces.rest.resources.BusCursorPageResource;
+import pe.civa.matias_aliaga.interfaces.rest.resources.BusImportResource;
+import pe.civa.matias_aliaga.interfaces.rest.resources.BusPageResource;
 import pe.civa.matias_aliaga.interfaces.rest.resources.BusResource;
+import pe.civa.matias_aliaga.interfaces.rest.resources.BusSearchResource;
 import pe.civa.matias_aliaga.interfaces.rest.resources.CreateBusResource;
+import pe.civa.matias_aliaga.interfaces.rest.resources.FleetStatisticsResource;
+import pe.civa.matias_aliaga.interfaces.rest.streaming.BusChangeFeed;
+import pe.civa.matias_aliaga.interfaces.rest.transform.BusImportResourceFromProgressAssembler;
+import pe.civa.matias_aliaga.interfaces.rest.transform.BusPageResourceFromSummaryPageAssembler;
 import pe.civa.matias_aliaga.interfaces.rest.transform.BusResourceFromEntityAssembler;
+import pe.civa.matias_aliaga.interfaces.rest.transform.BusResourceFromSummaryAssembler;
+import pe.civa.matias_aliaga.interfaces.rest.transform.BusSearchCriteriaFromResourceAssembler;
 import pe.civa.matias_aliaga.interfaces.rest.transform.CreateBusCommandFromResourceAssembler;
+import pe.civa.matias_aliaga.interfaces.rest.transform.FleetStatisticsResourceFromProjectionAssembler;
+import pe.civa.matias_aliaga.shared.interfaces.rest.caching.ETags;
+import pe.civa.matias_aliaga.shared.interfaces.rest.negotiation.PayloadFormat;
+import pe.civa.matias_aliaga.shared.interfaces.rest.pagination.CursorCodec;
+import pe.civa.matias_aliaga.shared.interfaces.rest.responses.ErrorResponse;
+import pe.civa.matias_aliaga.shared.interfaces.rest.throttling.EndpointClass;
+import pe.civa.matias_aliaga.shared.interfaces.rest.throttling.Throttled;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.springframework.http.MediaType.APPLICATION_CBOR_VALUE;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
+import static org.springframework.http.MediaType.MULTIPART_FORM_DATA_VALUE;
+import static org.springframework.http.MediaType.TEXT_EVENT_STREAM_VALUE;
+import static pe.civa.matias_aliaga.shared.interfaces.rest.negotiation.PayloadFormat.APPLICATION_SMILE_VALUE;
 
 /**
  * REST controller for managing buses.
  * Provides endpoints for creating, retrieving, and managing bus information.
- * Supports both paginated and non-paginated data retrieval.
+ * Supports streamed, offset-paginated and cursor-paginated data retrieval.
  * Supports CORS for frontend integration on localhost:5173.
  */
 @RestController
-@RequestMapping(value = "/api/v1/buses",produces = APPLICATION_JSON_VALUE)
+@RequestMapping(value = "/api/v1/buses",produces = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
 @Tag(name = "Buses", description = "Endpoints for managing buses")
-@CrossOrigin(origins = "*")
+@CrossOrigin(origins = "*", exposedHeaders = {HttpHeaders.ETAG, HttpHeaders.LOCATION, HttpHeaders.RETRY_AFTER})
 public class BusesController {
 
+    /** Default number of buses returned per window in cursor mode */
+    private static final int DEFAULT_CURSOR_LIMIT = 20;
+    /** Maximum number of buses a client may request per window in cursor mode */
+    private static final int MAX_CURSOR_LIMIT = 500;
+    /** Maximum number of buses that can be created in a single batch request */
+    private static final int MAX_BATCH_SIZE = 1000;
+    /** Formats a single bus or a page of buses can be sent in, JSON is used when the client accepts anything */
+    private static final PayloadFormat[] RESOURCE_FORMATS = {PayloadFormat.JSON, PayloadFormat.CBOR, PayloadFormat.SMILE};
+    /** Formats the streamed list of buses can be sent in, JSON is used when the client accepts anything */
+    private static final PayloadFormat[] STREAM_FORMATS = {PayloadFormat.JSON, PayloadFormat.NDJSON, PayloadFormat.CBOR, PayloadFormat.SMILE};
+    /** Properties clients may sort by, mapped to the bus attribute they sort */
+    private static final Map<String, String> SORTABLE_PROPERTIES = Map.of(
+            "id", "id",
+            "busNumber", "busNumber",
+            "licensePlate", "licensePlate.value",
+            "createdAt", "createdAt"
+    );
+
     /** Service for handling bus query operations */
     private final BusQueryService busQueryService;
     /** Service for handling bus command operations */
     private final BusCommandService busCommandService;
+    /** Writers used to serialise streamed buses in each format without flushing after every value */
+    private final Map<PayloadFormat, ObjectWriter> busResourceWriters;
+    /** Validator used to check every item of a batch before creating any bus */
+    private final Validator validator;
+    /** Feed streaming the bus changes to subscribed clients */
+    private final BusChangeFeed busChangeFeed;
 
     /**
      * Constructor for BusesController.
      * @param busQueryService The service for bus query operations
      * @param busCommandService The service for bus command operations
+     * @param objectMapper The application object mapper used to serialise streamed buses as JSON
+     * @param cborConverter The CBOR message converter, whose object mapper serialises streamed buses as CBOR
+     * @param smileConverter The Smile message converter, whose object mapper serialises streamed buses as Smile
+     * @param validator The bean validator for batch items
+     * @param busChangeFeed The feed of bus changes
      */
     @Autowired
-    public BusesController(BusQueryService busQueryService, BusCommandService busCommandService) {
+    public BusesController(BusQueryService busQueryService, BusCommandService busCommandService, ObjectMapper objectMapper,
+                           MappingJackson2CborHttpMessageConverter cborConverter, MappingJackson2SmileHttpMessageConverter smileConverter,
+                           Validator validator, BusChangeFeed busChangeFeed) {
         this.busQueryService = busQueryService;
         this.busCommandService = busCommandService;
+        this.validator = validator;
+        this.busChangeFeed = busChangeFeed;
+        var jsonWriter = streamingWriter(objectMapper);
+        this.busResourceWriters = new EnumMap<>(Map.of(
+                PayloadFormat.JSON, jsonWriter,
+                PayloadFormat.NDJSON, jsonWriter.withRootValueSeparator("\n"),
+                PayloadFormat.CBOR, streamingWriter(cborConverter.getObjectMapper()),
+                PayloadFormat.SMILE, streamingWriter(smileConverter.getObjectMapper())
+        ));
     }
 
     /**
      * Creates a new bus in the system.
-     * Validates the input data, creates the bus, and returns the created bus information.
+     * Validates the input data, creates the bus, and returns the created bus information
+     * built from the persisted aggregate, without reading it back from the database.
      *
      * @param resource The CreateBusResource containing the bus data to be created
      * @return ResponseEntity containing the created BusResource or error status
@@ -66,92 +167,464 @@ public class BusesController {
             operationId = "createBus",
             responses = {
                     @ApiResponse(responseCode = "201", description = "Bus created successfully",content = @Content(mediaType = "application/json",schema = @Schema(implementation = BusResource.class))),
-                    @ApiResponse(responseCode = "400", description = "Invalid input data",content = @Content(mediaType = "application/json",schema = @Schema(implementation = RuntimeException.class)))
+                    @ApiResponse(responseCode = "400", description = "Invalid input data",content = @Content(mediaType = "application/json",schema = @Schema(implementation = RuntimeException.class))),
+                    @ApiResponse(responseCode = "409", description = "Bus number or license plate already in use",content = @Content(mediaType = "application/json",schema = @Schema(implementation = ErrorResponse.class)))
     }
     )
     @PostMapping
     public ResponseEntity<BusResource> createBus(@Valid @RequestBody CreateBusResource resource){
         var createBusCommand = CreateBusCommandFromResourceAssembler.toCommand(resource);
 
-        var busId = this.busCommandService.handle(createBusCommand);
+        var bus = this.busCommandService.handle(createBusCommand);
 
+        var busResource = BusResourceFromEntityAssembler.toResource(bus);
 
-        if (busId.equals(0L))
-            return ResponseEntity.badRequest().build();
+        return ResponseEntity.status(HttpStatus.CREATED).body(busResource);
+    }
 
-        var getBusByIdQuery = new GetBusByIdQuery(busId);
+    /**
+     * Creates several buses in a single request.
+     * Every item is validated up front, null items included; valid items are created in one transaction using
+     * JDBC statement batching, and the outcome of each item is reported individually.
+     *
+     * @param resources The CreateBusResource items describing the buses to create
+     * @return ResponseEntity containing the per-item results, with status 201 if every bus was created or 207 otherwise
+     */
+    @Operation(
+            summary = "Add several buses",
+            description = "Create up to 1000 buses in a single request, reporting the created id or the error of each item",
+            operationId = "createBuses",
+            responses = {
+                    @ApiResponse(responseCode = "201", description = "All buses created successfully",content = @Content(mediaType = "application/json",schema = @Schema(implementation = BusBatchResultResource.class))),
+                    @ApiResponse(responseCode = "207", description = "Some buses could not be created",content = @Content(mediaType = "application/json",schema = @Schema(implementation = BusBatchResultResource.class))),
+                    @ApiResponse(responseCode = "400", description = "Empty or too large batch",content = @Content),
+                    @ApiResponse(responseCode = "409", description = "Buses kept conflicting with concurrent inserts after several attempts",content = @Content)
+            }
+    )
+    @PostMapping("/batch")
+    public ResponseEntity<BusBatchResultResource> createBuses(@RequestBody List<CreateBusResource> resources) {
+        if (resources.isEmpty() || resources.size() > MAX_BATCH_SIZE)
+            throw new IllegalArgumentException("Batch must contain between 1 and " + MAX_BATCH_SIZE + " buses");
 
-        var optionalBus = this.busQueryService.handle(getBusByIdQuery);
+        var items = new BusBatchItemResource[resources.size()];
+        var commands = new ArrayList<CreateBusCommand>();
+        var commandIndexes = new ArrayList<Integer>();
+        for (int i = 0; i < resources.size(); i++) {
+            if (resources.get(i) == null) {
+                items[i] = new BusBatchItemResource(i, null, "Item must not be null");
+                continue;
+            }
+            var violations = this.validator.validate(resources.get(i));
+            if (violations.isEmpty()) {
+                commands.add(CreateBusCommandFromResourceAssembler.toCommand(resources.get(i)));
+                commandIndexes.add(i);
+            } else {
+                var error = violations.stream()
+                        .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                        .collect(Collectors.joining(", "));
+                items[i] = new BusBatchItemResource(i, null, error);
+            }
+        }
 
-        if(optionalBus.isEmpty())
-            return ResponseEntity.badRequest().build();
+        var results = commands.isEmpty() ? List.<BusCreationResult>of() : this.busCommandService.handle(new CreateBusesCommand(commands));
+        for (int i = 0; i < results.size(); i++) {
+            int index = commandIndexes.get(i);
+            items[index] = new BusBatchItemResource(index, results.get(i).busId(), results.get(i).error());
+        }
 
-        var busResource = BusResourceFromEntityAssembler.toResource(optionalBus.get());
+        var created = (int) results.stream().filter(BusCreationResult::isCreated).count();
+        var resource = new BusBatchResultResource(created, items.length - created, List.of(items));
+        var status = created == items.length ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
 
-        return ResponseEntity.status(HttpStatus.CREATED).body(busResource);
+        return ResponseEntity.status(status).body(resource);
     }
 
     /**
-     * Retrieves all buses with optional pagination support.
-     * Can return either all buses or a paginated subset based on the request parameters.
+     * Imports the buses of a CSV file.
+     * The upload is stored in a temporary file and imported in the background: records are parsed and
+     * validated one at a time while they are copied into the database, so files of any size use bounded memory.
+     * Buses whose bus number or license plate is already in use are skipped and reported.
      *
-     * @param paginated Whether to use pagination (default: false)
-     * @param page The page number for pagination (default: 0)
-     * @param size The page size for pagination (default: 10)
-     * @return ResponseEntity containing either a list of all buses or a paginated result
+     * @param file The CSV file, with a header naming the busNumber, licensePlate, brand, characteristics and optional isActive columns
+     * @return ResponseEntity with status 202 and the progress of the queued import, located at /api/v1/buses/import/{importId}
+     * @throws IOException if the upload cannot be stored
+     */
+    @Operation(
+            summary = "Import buses from a CSV file",
+            description = "Queue the import of a CSV file with the busNumber, licensePlate, brand, characteristics and optional isActive columns",
+            operationId = "importBuses",
+            responses = {
+                    @ApiResponse(responseCode = "202", description = "Import queued",content = @Content(mediaType = "application/json",schema = @Schema(implementation = BusImportResource.class))),
+                    @ApiResponse(responseCode = "400", description = "Empty file",content = @Content),
+                    @ApiResponse(responseCode = "503", description = "Too many imports waiting to run",content = @Content)
+            }
+    )
+    @PostMapping(value = "/import", consumes = MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<BusImportResource> importBuses(@RequestParam("file") MultipartFile file) throws IOException {
+        if (file.isEmpty()) throw new IllegalArgumentException("The file is empty.");
+        var source = Files.createTempFile("bus-import-", ".csv");
+        try {
+            file.transferTo(source);
+        } catch (IOException | RuntimeException ex) {
+            Files.deleteIfExists(source);
+            throw ex;
+        }
+        var importId = this.busCommandService.handle(new ImportBusesCommand(source, file.getOriginalFilename()));
+        var progress = this.busQueryService.handle(new GetBusImportQuery(importId)).orElseThrow();
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/buses/import/" + importId))
+                .body(BusImportResourceFromProgressAssembler.toResource(progress));
+    }
+
+    /**
+     * Retrieves the progress of an import.
+     * Imports are tracked by the instance that received them and forgotten some time after they finish.
+     *
+     * @param importId The unique identifier of the import
+     * @return ResponseEntity containing the BusImportResource if known, or 404 status otherwise
+     */
+    @Operation(
+            summary = "Get the progress of an import",
+            description = "Retrieve the state and counters of a CSV import, with its first invalid or duplicated lines",
+            operationId = "getBusImport",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Import progress retrieved successfully",content = @Content(mediaType = "application/json",schema = @Schema(implementation = BusImportResource.class))),
+                    @ApiResponse(responseCode = "404", description = "Import not found",content = @Content)
+            }
+    )
+    @GetMapping("/import/{importId}")
+    public ResponseEntity<BusImportResource> getBusImport(@PathVariable UUID importId) {
+        return this.busQueryService.handle(new GetBusImportQuery(importId))
+                .map(BusImportResourceFromProgressAssembler::toResource)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Retrieves all buses as a stream.
+     * Buses are read through a database cursor and written to the response one by one,
+     * as a JSON, CBOR or Smile array, or as newline-delimited JSON, depending on the Accept header,
+     * so memory usage does not grow with the fleet size.
+     * Filters are applied by the database, so only the matching buses are read and sent.
+     * Answers 304 without reading any bus when the client already holds the current list.
+     *
+     * @param accept The Accept header sent by the client
+     * @param filters The optional filters the buses must match
+     * @param sort The order of the buses, by id, busNumber, licensePlate or createdAt (default: id)
+     * @param webRequest The current request, used to evaluate If-None-Match
+     * @return ResponseEntity containing the body that streams all buses, or 304 if the list did not change
      */
     @Operation(
             summary = "Get all buses",
-            description = "Retrieve a list of all buses",
+            description = "Retrieve a list of all buses matching the optional filters. Use paginated=true for offset pagination or after/limit for cursor pagination",
             operationId = "getAllBuses",
             responses = {
-                    @ApiResponse(responseCode = "200", description = "List of buses retrieved successfully",content = @Content(mediaType = "application/json",schema = @Schema(implementation = BusResource.class)))
+                    @ApiResponse(responseCode = "200", description = "List of buses retrieved successfully",content = {
+                            @Content(mediaType = APPLICATION_JSON_VALUE,schema = @Schema(implementation = BusResource.class)),
+                            @Content(mediaType = APPLICATION_NDJSON_VALUE,schema = @Schema(implementation = BusResource.class)),
+                            @Content(mediaType = APPLICATION_CBOR_VALUE,schema = @Schema(implementation = BusResource.class)),
+                            @Content(mediaType = APPLICATION_SMILE_VALUE,schema = @Schema(implementation = BusResource.class))
+                    }),
+                    @ApiResponse(responseCode = "304", description = "List of buses not modified",content = @Content),
+                    @ApiResponse(responseCode = "400", description = "Invalid filter or sort property",content = @Content)
+            }
+    )
+    @Throttled(EndpointClass.EXPORT)
+    @GetMapping(params = {"paginated!=true", "!after", "!limit", "!plate"}, produces = {APPLICATION_JSON_VALUE, APPLICATION_NDJSON_VALUE, APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
+    public ResponseEntity<StreamingResponseBody> getAllBuses(
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @ParameterObject @ModelAttribute BusSearchResource filters,
+            @ParameterObject Sort sort,
+            WebRequest webRequest
+    ) {
+        var format = PayloadFormat.negotiate(accept, STREAM_FORMATS);
+        var query = new StreamAllBusesQuery(BusSearchCriteriaFromResourceAssembler.toCriteriaFromResource(filters), toBusSort(sort));
+        if (isCollectionNotModified(webRequest, query.criteria(), query + " " + format, true))
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).varyBy(HttpHeaders.ACCEPT).build();
+        StreamingResponseBody body = outputStream -> writeAllBuses(outputStream, format, query);
+
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(body);
+    }
+
+    /**
+     * Retrieves the bus using a license plate.
+     * Known plates are resolved through the in-memory license plate index and the second-level cache.
+     *
+     * @param plate The license plate to look for, in the A1A-123 format
+     * @return ResponseEntity containing a list with the matching bus, or an empty list if no bus uses the plate
+     */
+    @Operation(
+            summary = "Get buses by license plate",
+            description = "Retrieve the bus using the given license plate, as a list with zero or one element",
+            operationId = "getBusesByLicensePlate",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Buses retrieved successfully",content = @Content(mediaType = "application/json",schema = @Schema(implementation = BusResource.class))),
+                    @ApiResponse(responseCode = "400", description = "Invalid license plate",content = @Content)
+            }
+    )
+    @GetMapping(params = {"plate", "paginated!=true", "!after", "!limit"})
+    public ResponseEntity<List<BusResource>> getBusesByLicensePlate(@RequestParam String plate) {
+        var optionalBus = this.busQueryService.handle(new GetBusByLicensePlateQuery(plate));
+        var busResources = optionalBus.map(BusResourceFromSummaryAssembler::toResource).stream().toList();
+        return ResponseEntity.ok(busResources);
+    }
+
+    /**
+     * Retrieves buses with pagination support.
+     * Returns a paginated subset based on offsets, or a window of buses
+     * based on an opaque cursor when the after or limit parameters are present.
+     *
+     * @param page The page number for pagination (default: 0)
+     * @param size The page size for pagination (default: 10)
+     * @param after The opaque cursor returned by a previous window, enables cursor mode
+     * @param limit The window size for cursor mode (default: 20, max: 500), enables cursor mode
+     * @param totals How the total is obtained in offset mode: exact (default), approximate or none
+     * @param filters The optional filters the buses must match
+     * @param sort The order of the buses in offset mode, by id, busNumber, licensePlate or createdAt (default: id)
+     * @param accept The Accept header sent by the client
+     * @param webRequest The current request, used to evaluate If-None-Match
+     * @return ResponseEntity containing either a paginated result or a cursor window, or 304 if it did not change
+     */
+    @Operation(
+            summary = "Get paginated buses",
+            description = "Retrieve a page of buses using offset pagination (paginated=true) or cursor pagination (after/limit). "
+                    + "In offset mode, totals=approximate estimates the total from table statistics and totals=none skips it; totalMode tells how the total was obtained",
+            operationId = "getPaginatedBuses",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Page of buses retrieved successfully",content = {
+                            @Content(mediaType = APPLICATION_JSON_VALUE,schema = @Schema(implementation = BusPageResource.class)),
+                            @Content(mediaType = APPLICATION_CBOR_VALUE,schema = @Schema(implementation = BusPageResource.class)),
+                            @Content(mediaType = APPLICATION_SMILE_VALUE,schema = @Schema(implementation = BusPageResource.class))
+                    }),
+                    @ApiResponse(responseCode = "304", description = "Page of buses not modified",content = @Content),
+                    @ApiResponse(responseCode = "400", description = "Invalid cursor, limit, filter or sort property",content = @Content)
             }
     )
     @GetMapping
-    public ResponseEntity<?> getAllBuses(
-            @RequestParam(defaultValue = "false") boolean paginated,
+    public ResponseEntity<?> getPaginatedBuses(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = "exact") String totals,
+            @ParameterObject @ModelAttribute BusSearchResource filters,
+            @ParameterObject Sort sort,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            WebRequest webRequest
     ) {
-        if (paginated) {
-            Pageable pageable = PageRequest.of(page, size);
-            Page<Bus> busPage = busQueryService.handle(pageable);
-            return ResponseEntity.ok(busPage.map(BusResourceFromEntityAssembler::toResource));
-
-        } else {
-            var getAllBusesQuery = new GetAllBusesQuery();
-            var buses = this.busQueryService.handle(getAllBusesQuery);
-            var busResources = buses.stream().map(BusResourceFromEntityAssembler::toResource).toList();
-            return ResponseEntity.ok(busResources);
+        var criteria = BusSearchCriteriaFromResourceAssembler.toCriteriaFromResource(filters);
+        var format = PayloadFormat.negotiate(accept, RESOURCE_FORMATS);
+        if (after != null || limit != null) {
+            if (sort.isSorted())
+                throw new IllegalArgumentException("Sort is not supported with cursor pagination, buses are ordered by id");
+            if (isCollectionNotModified(webRequest, criteria, "after=" + after + "&limit=" + limit + "&" + criteria + " " + format, false))
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).varyBy(HttpHeaders.ACCEPT).build();
+            return ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT).body(getBusesAfterCursor(after, limit, criteria));
         }
+        var query = new GetBusSummaryPageQuery(PageRequest.of(page, size, toBusSort(sort)), criteria, TotalCountMode.fromString(totals));
+        if (isCollectionNotModified(webRequest, criteria, query + " " + format, query.totals() == TotalCountMode.EXACT))
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).varyBy(HttpHeaders.ACCEPT).build();
+        var busPage = busQueryService.handle(query);
+        return ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT).body(BusPageResourceFromSummaryPageAssembler.toResource(busPage));
+    }
+
+    /**
+     * Streams the buses created from now on as server-sent events.
+     * The request thread is released right away; events are written as they are published, and a
+     * client reconnecting with Last-Event-ID receives the events it missed, or a reset event if they
+     * are no longer known and it has to reload the buses.
+     *
+     * @param lastEventId The ID of the last event received by a reconnecting client
+     * @return The emitter streaming the bus-created events
+     */
+    @Operation(
+            summary = "Stream bus changes",
+            description = "Subscribe to the bus-created events as server-sent events, resumable with Last-Event-ID",
+            operationId = "streamBusChanges",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Subscription started",content = @Content(mediaType = TEXT_EVENT_STREAM_VALUE,schema = @Schema(implementation = BusResource.class)))
+            }
+    )
+    @Throttled(EndpointClass.STREAM)
+    @GetMapping(value = "/stream", produces = TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamBusChanges(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return this.busChangeFeed.subscribe(lastEventId);
+    }
+
+    /**
+     * Retrieves the number of buses grouped by brand and active status.
+     * Served from in-memory counters, so the response time does not depend on the fleet size.
+     *
+     * @return ResponseEntity containing the FleetStatisticsResource
+     */
+    @Operation(
+            summary = "Get fleet statistics",
+            description = "Retrieve the number of buses overall and per brand, split into active and inactive",
+            operationId = "getFleetStatistics",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Fleet statistics retrieved successfully",content = {
+                            @Content(mediaType = APPLICATION_JSON_VALUE,schema = @Schema(implementation = FleetStatisticsResource.class)),
+                            @Content(mediaType = APPLICATION_CBOR_VALUE,schema = @Schema(implementation = FleetStatisticsResource.class)),
+                            @Content(mediaType = APPLICATION_SMILE_VALUE,schema = @Schema(implementation = FleetStatisticsResource.class))
+                    })
+            }
+    )
+    @GetMapping("/stats")
+    public ResponseEntity<FleetStatisticsResource> getFleetStatistics() {
+        var statistics = this.busQueryService.handle(new GetFleetStatisticsQuery());
+        return ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT)
+                .body(FleetStatisticsResourceFromProjectionAssembler.toResource(statistics));
     }
 
     /**
      * Retrieves a specific bus by its unique identifier.
      *
+     * For conditional requests only the version of the bus is read before evaluating If-None-Match, so unchanged
+     * buses are answered with 304 without being loaded or serialised. Other requests load the bus right away, from
+     * the second-level cache when it holds it, and take the entity tag from the loaded bus.
+     *
      * @param id The unique identifier of the bus to retrieve
-     * @return ResponseEntity containing the BusResource if found, or 404 status if not found
+     * @param accept The Accept header sent by the client
+     * @param webRequest The current request, used to evaluate If-None-Match
+     * @return ResponseEntity containing the BusResource if found, 304 if not modified, or 404 status if not found
      */
     @Operation(
             summary = "Get a bus by ID",
             description = "Retrieve a bus by its unique ID",
             operationId = "getBusById",
             responses = {
-                    @ApiResponse(responseCode = "200", description = "Bus retrieved successfully",content = @Content(mediaType = "application/json",schema = @Schema(implementation = BusResource.class))),
+                    @ApiResponse(responseCode = "200", description = "Bus retrieved successfully",content = {
+                            @Content(mediaType = APPLICATION_JSON_VALUE,schema = @Schema(implementation = BusResource.class)),
+                            @Content(mediaType = APPLICATION_CBOR_VALUE,schema = @Schema(implementation = BusResource.class)),
+                            @Content(mediaType = APPLICATION_SMILE_VALUE,schema = @Schema(implementation = BusResource.class))
+                    }),
+                    @ApiResponse(responseCode = "304", description = "Bus not modified",content = @Content),
                     @ApiResponse(responseCode = "404", description = "Bus not found",content = @Content)
             }
     )
     @GetMapping("/{id}")
-    public ResponseEntity<BusResource> getBusById(@PathVariable Long id){
-        var getBusByIdQuery = new GetBusByIdQuery(id);
-        var optionalBus = this.busQueryService.handle(getBusByIdQuery);
+    public ResponseEntity<BusResource> getBusById(@PathVariable Long id,
+                                                  @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                                  WebRequest webRequest){
+        var format = PayloadFormat.negotiate(accept, RESOURCE_FORMATS);
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            var version = this.busQueryService.handle(new GetBusVersionQuery(id));
+            if (version.isEmpty())
+                return ResponseEntity.notFound().build();
+            if (webRequest.checkNotModified(ETags.forVersion(id, version.get(), format.name())))
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).varyBy(HttpHeaders.ACCEPT).build();
+        }
+
+        var getBusSummaryByIdQuery = new GetBusSummaryByIdQuery(id);
+        var optionalBus = this.busQueryService.handle(getBusSummaryByIdQuery);
 
         if(optionalBus.isEmpty())
             return ResponseEntity.notFound().build();
 
-        var busResource = BusResourceFromEntityAssembler.toResource(optionalBus.get());
+        var busResource = BusResourceFromSummaryAssembler.toResource(optionalBus.get());
+
+        return ResponseEntity.ok()
+                .eTag(ETags.forVersion(id, optionalBus.get().updatedAt(), format.name()))
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(busResource);
+    }
 
-        return ResponseEntity.ok(busResource);
+    /**
+     * Retrieves the window of buses that follows the given cursor.
+     *
+     * @param after The opaque cursor of the previous window, or null for the first window
+     * @param limit The requested window size, or null for the default size
+     * @param criteria The filters the buses must match
+     * @return BusCursorPageResource containing the buses and the cursor of the next window
+     * @throws IllegalArgumentException if the cursor is malformed or the limit is out of range
+     */
+    private BusCursorPageResource getBusesAfterCursor(String after, Integer limit, BusSearchCriteria criteria) {
+        var windowSize = limit == null ? DEFAULT_CURSOR_LIMIT : limit;
+        if (windowSize < 1 || windowSize > MAX_CURSOR_LIMIT)
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_CURSOR_LIMIT);
+
+        var afterId = after == null || after.isBlank() ? null : CursorCodec.decode(after);
+        var window = this.busQueryService.handle(new GetBusesAfterCursorQuery(afterId, windowSize, criteria));
+        var busResources = window.getContent().stream().map(BusResourceFromSummaryAssembler::toResource).toList();
+        var nextCursor = window.hasNext() ? CursorCodec.encode(window.getContent().getLast().id()) : null;
+
+        return new BusCursorPageResource(busResources, nextCursor, window.hasNext());
+    }
+
+    /**
+     * Writes every bus to the given output stream as soon as it is read from the database.
+     *
+     * @param outputStream The response output stream
+     * @param format The format to write, newline-delimited JSON or an array in any other format
+     * @param query The query selecting the buses to write
+     * @throws IOException if writing to the client fails
+     */
+    private void writeAllBuses(OutputStream outputStream, PayloadFormat format, StreamAllBusesQuery query) throws IOException {
+        var ndjson = format == PayloadFormat.NDJSON;
+        var writer = this.busResourceWriters.get(format);
+        try (var sequenceWriter = ndjson ? writer.writeValues(outputStream) : writer.writeValuesAsArray(outputStream)) {
+            this.busQueryService.handle(query, bus -> {
+                try {
+                    sequenceWriter.write(BusResourceFromSummaryAssembler.toResource(bus));
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        if (ndjson) outputStream.write('\n');
+    }
+
+    /**
+     * Creates a writer that serialises buses one by one without flushing or closing the response after each one.
+     *
+     * @param objectMapper The object mapper of the target format
+     * @return The bus resource writer
+     */
+    private static ObjectWriter streamingWriter(ObjectMapper objectMapper) {
+        return objectMapper.writerFor(BusResource.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    /**
+     * Evaluates If-None-Match against the fingerprint of the buses matching the filters.
+     * The fingerprint counts the matching buses, so it is only computed for conditional requests, or for responses
+     * that read or count every matching bus anyway; the entity tag is then added to the response, whether it matched or not.
+     *
+     * @param webRequest The current request
+     * @param criteria The filters selecting the buses of the collection
+     * @param request A canonical description of the requested page and representation
+     * @param countsAllBuses Whether the response reads or counts every matching bus, so it is tagged even without If-None-Match
+     * @return true if the client already holds the current representation, false otherwise
+     */
+    private boolean isCollectionNotModified(WebRequest webRequest, BusSearchCriteria criteria, String request, boolean countsAllBuses) {
+        if (!countsAllBuses && webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) == null)
+            return false;
+        var fingerprint = this.busQueryService.handle(new GetBusCollectionFingerprintQuery(criteria));
+        return webRequest.checkNotModified(ETags.forCollection(fingerprint.lastId(), fingerprint.lastUpdatedAt(), fingerprint.count(), request));
+    }
+
+    /**
+     * Translates the sort requested by the client into a sort on bus attributes.
+     * Only the whitelisted properties are accepted, so clients cannot order by unindexed or joined columns.
+     *
+     * @param sort The sort requested by the client
+     * @return The sort on bus attributes
+     * @throws IllegalArgumentException if a property is not sortable
+     */
+    private static Sort toBusSort(Sort sort) {
+        var orders = new ArrayList<Sort.Order>();
+        for (var order : sort) {
+            var property = SORTABLE_PROPERTIES.get(order.getProperty());
+            if (property == null)
+                throw new IllegalArgumentException("Cannot sort by " + order.getProperty() + ", sortable properties are " + SORTABLE_PROPERTIES.keySet());
+            orders.add(order.withProperty(property));
+        }
+        return Sort.by(orders);
     }
 }
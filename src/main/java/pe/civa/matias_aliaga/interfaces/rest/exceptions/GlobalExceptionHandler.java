@@ -1,21 +1,53 @@
 package pe.civa.matias_aliaga.interfaces.rest.exceptions;
 
 import jakarta.validation.ConstraintViolationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import pe.civa.matias_aliaga.domain.model.entities.Bus;
+import pe.civa.matias_aliaga.domain.model.exceptions.BusAlreadyExistsException;
+import pe.civa.matias_aliaga.domain.model.exceptions.BusImportRejectedException;
 import pe.civa.matias_aliaga.domain.model.exceptions.BusNotFoundException;
+import pe.civa.matias_aliaga.shared.infrastructure.persistence.jpa.UniqueConstraintViolations;
 import pe.civa.matias_aliaga.shared.interfaces.rest.responses.ErrorResponse;
+import pe.civa.matias_aliaga.shared.interfaces.rest.throttling.TooManyRequestsException;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+
+    /** Message of a unique violation on a constraint and column that are not known */
+    private static final String UNIQUE_VIOLATION_MESSAGE = "A resource with the same unique values already exists.";
+
+    private static final Map<String, String> CONSTRAINT_MESSAGES = Map.of(
+            Bus.BUS_NUMBER_CONSTRAINT, "A bus with this bus number already exists.",
+            Bus.LICENSE_PLATE_CONSTRAINT, "A bus with this license plate already exists."
+    );
+
+    /**
+     * Messages of the unique columns of the buses, used when a violation is reported under a constraint name
+     * that is not known, such as one generated by Hibernate on a database not yet migrated.
+     */
+    private static final Map<String, String> UNIQUE_COLUMN_MESSAGES = Map.of(
+            "bus_number", CONSTRAINT_MESSAGES.get(Bus.BUS_NUMBER_CONSTRAINT),
+            "license_plate", CONSTRAINT_MESSAGES.get(Bus.LICENSE_PLATE_CONSTRAINT)
+    );
+
+    /** Column named in the detail of a PostgreSQL unique violation: Key (column)=(value) already exists */
+    private static final Pattern UNIQUE_VIOLATION_COLUMN = Pattern.compile("Key \\((\\w+)\\)=\\(.*\\) already exists");
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ErrorResponse> handleIllegalArgument(IllegalArgumentException ex) {
         return buildResponse(HttpStatus.BAD_REQUEST, List.of(ex.getMessage()));
@@ -26,6 +58,24 @@ public class GlobalExceptionHandler {
         return buildResponse(HttpStatus.NOT_FOUND, List.of(ex.getMessage()));
     }
 
+    @ExceptionHandler(BusAlreadyExistsException.class)
+    public ResponseEntity<ErrorResponse> handleBusAlreadyExists(BusAlreadyExistsException ex) {
+        return buildResponse(HttpStatus.CONFLICT, List.of(ex.getMessage()));
+    }
+
+    @ExceptionHandler(BusImportRejectedException.class)
+    public ResponseEntity<ErrorResponse> handleBusImportRejected(BusImportRejectedException ex) {
+        return buildResponse(HttpStatus.SERVICE_UNAVAILABLE, List.of(ex.getMessage()));
+    }
+
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyRequests(TooManyRequestsException ex) {
+        var retryAfterSeconds = Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds))
+                .body(buildResponse(HttpStatus.TOO_MANY_REQUESTS, List.of(ex.getMessage())).getBody());
+    }
+
     @ExceptionHandler(ConstraintViolationException.class)
     public ResponseEntity<ErrorResponse> handleConstraintViolation(ConstraintViolationException ex) {
         var errors = ex.getConstraintViolations().stream()
@@ -42,9 +92,24 @@ public class GlobalExceptionHandler {
         return buildResponse(HttpStatus.BAD_REQUEST, errors);
     }
 
+    /**
+     * Answers unique violations with 409 and a message naming the duplicated value when it is known.
+     * Any other integrity violation (not-null, foreign key, check, value too long) is a defect, since requests
+     * are validated first: it is logged and answered with 500 without exposing the database error to the client.
+     */
     @ExceptionHandler(DataIntegrityViolationException.class)
     public ResponseEntity<ErrorResponse> handleDataIntegrityViolation(DataIntegrityViolationException ex) {
-        return buildResponse(HttpStatus.CONFLICT, List.of("Database constraint violated: " + ex.getMostSpecificCause().getMessage()));
+        var constraintName = findConstraintName(ex);
+        var message = constraintName == null ? null : CONSTRAINT_MESSAGES.get(constraintName.toLowerCase());
+        if (message == null && UniqueConstraintViolations.isUniqueViolation(ex)) {
+            var columnMessage = findUniqueColumnMessage(ex.getMostSpecificCause().getMessage());
+            message = columnMessage == null ? UNIQUE_VIOLATION_MESSAGE : columnMessage;
+        }
+        if (message == null) {
+            logger.error("Data integrity violation", ex);
+            return buildResponse(HttpStatus.INTERNAL_SERVER_ERROR, List.of("Unexpected error occurred"));
+        }
+        return buildResponse(HttpStatus.CONFLICT, List.of(message));
     }
 
     @ExceptionHandler(Exception.class)
@@ -52,6 +117,20 @@ public class GlobalExceptionHandler {
         return buildResponse(HttpStatus.INTERNAL_SERVER_ERROR, List.of("Unexpected error occurred"));
     }
 
+    private String findConstraintName(Throwable ex) {
+        for (var cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof org.hibernate.exception.ConstraintViolationException violation)
+                return violation.getConstraintName();
+        }
+        return null;
+    }
+
+    private String findUniqueColumnMessage(String detail) {
+        if (detail == null) return null;
+        var matcher = UNIQUE_VIOLATION_COLUMN.matcher(detail);
+        return matcher.find() ? UNIQUE_COLUMN_MESSAGES.get(matcher.group(1)) : null;
+    }
+
     private ResponseEntity<ErrorResponse> buildResponse(HttpStatus status, List<String> errors) {
         ErrorResponse error = new ErrorResponse(
                 status.value(),
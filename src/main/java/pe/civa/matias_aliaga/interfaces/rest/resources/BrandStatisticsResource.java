@@ -0,0 +1,17 @@
+package pe.civa.matias_aliaga.interfaces.rest.resources;
+
+/**
+ * Resource representation of the number of buses of a brand.
+ *
+ * @param brand The brand name
+ * @param total The number of buses of the brand
+ * @param active The number of active buses of the brand
+ * @param inactive The number of inactive buses of the brand
+ */
+public record BrandStatisticsResource(
+        String brand,
+        long total,
+        long active,
+        long inactive
+) {
+}
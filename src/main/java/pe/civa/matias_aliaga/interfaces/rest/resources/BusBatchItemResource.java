@@ -0,0 +1,15 @@
+package pe.civa.matias_aliaga.interfaces.rest.resources;
+
+/**
+ * Resource representation of the outcome of one item of a batch bus creation.
+ *
+ * @param index The position of the item in the request array
+ * @param id The identifier of the created bus, or null if the item failed
+ * @param error The reason why the item failed, or null if the bus was created
+ */
+public record BusBatchItemResource(
+        int index,
+        Long id,
+        String error
+) {
+}
@@ -0,0 +1,17 @@
+package pe.civa.matias_aliaga.interfaces.rest.resources;
+
+import java.util.List;
+
+/**
+ * Resource representation of the outcome of a batch bus creation.
+ *
+ * @param created The number of buses created
+ * @param failed The number of items that were rejected
+ * @param results The per-item outcome, in request order
+ */
+public record BusBatchResultResource(
+        int created,
+        int failed,
+        List<BusBatchItemResource> results
+) {
+}
@@ -0,0 +1,17 @@
+package pe.civa.matias_aliaga.interfaces.rest.resources;
+
+import java.util.List;
+
+/**
+ * Resource representation of a window of buses obtained through cursor pagination.
+ *
+ * @param content The buses contained in the current window
+ * @param nextCursor The opaque cursor to request the next window, or null if there are no more buses
+ * @param hasNext Whether more buses are available after this window
+ */
+public record BusCursorPageResource(
+        List<BusResource> content,
+        String nextCursor,
+        boolean hasNext
+) {
+}
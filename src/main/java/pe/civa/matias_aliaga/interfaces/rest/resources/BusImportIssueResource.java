@@ -0,0 +1,13 @@
+package pe.civa.matias_aliaga.interfaces.rest.resources;
+
+/**
+ * Resource representation of a problem found with a line of an imported file.
+ *
+ * @param line The line of the file where the record starts
+ * @param message Description of the problem
+ */
+public record BusImportIssueResource(
+        long line,
+        String message
+) {
+}
@@ -0,0 +1,35 @@
+package pe.civa.matias_aliaga.interfaces.rest.resources;
+
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Resource representation of the progress of a bus import.
+ *
+ * @param id The unique identifier of the import
+ * @param fileName The name of the imported file
+ * @param status The state of the import: queued, running, completed or failed
+ * @param linesRead The number of records read so far
+ * @param linesRejected The number of invalid records skipped
+ * @param busesImported The number of buses created
+ * @param duplicates The number of records skipped because their bus already exists
+ * @param issues The first invalid or duplicated records
+ * @param failure The reason the import failed, null unless it failed
+ * @param submittedAt The timestamp when the import was submitted
+ * @param finishedAt The timestamp when the import finished, null while it runs
+ */
+public record BusImportResource(
+        UUID id,
+        String fileName,
+        String status,
+        long linesRead,
+        long linesRejected,
+        long busesImported,
+        long duplicates,
+        List<BusImportIssueResource> issues,
+        String failure,
+        Date submittedAt,
+        Date finishedAt
+) {
+}
@@ -0,0 +1,27 @@
+package pe.civa.matias_aliaga.interfaces.rest.resources;
+
+import java.util.List;
+
+/**
+ * Resource representation of a page of buses obtained through offset pagination.
+ *
+ * @param content The buses contained in the current page
+ * @param number The zero-based number of the current page
+ * @param size The requested page size
+ * @param first Whether this is the first page
+ * @param last Whether this is the last page
+ * @param totalElements The total number of buses, or null if it was not computed
+ * @param totalPages The total number of pages, or null if the total was not computed
+ * @param totalMode How the total was obtained: exact, approximate or none
+ */
+public record BusPageResource(
+        List<BusResource> content,
+        int number,
+        int size,
+        boolean first,
+        boolean last,
+        Long totalElements,
+        Integer totalPages,
+        String totalMode
+) {
+}
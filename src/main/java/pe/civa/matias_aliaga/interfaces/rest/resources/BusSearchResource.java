@@ -0,0 +1,25 @@
+package pe.civa.matias_aliaga.interfaces.rest.resources;
+
+import java.time.Instant;
+
+/**
+ * Resource holding the optional filters accepted when listing buses.
+ *
+ * @param brand Brand of the buses
+ * @param isActive Active status of the buses
+ * @param busNumberFrom Lowest bus number, inclusive
+ * @param busNumberTo Highest bus number, inclusive
+ * @param createdFrom Earliest creation instant, inclusive, in ISO-8601 format
+ * @param createdTo Latest creation instant, exclusive, in ISO-8601 format
+ * @param characteristics Text contained in the characteristics, case-insensitive
+ */
+public record BusSearchResource(
+        String brand,
+        Boolean isActive,
+        Integer busNumberFrom,
+        Integer busNumberTo,
+        Instant createdFrom,
+        Instant createdTo,
+        String characteristics
+) {
+}
@@ -0,0 +1,19 @@
+package pe.civa.matias_aliaga.interfaces.rest.resources;
+
+import java.util.List;
+
+/**
+ * Resource representation of the number of buses in the fleet, overall and per brand.
+ *
+ * @param total The number of buses
+ * @param active The number of active buses
+ * @param inactive The number of inactive buses
+ * @param brands The number of buses of each brand
+ */
+public record FleetStatisticsResource(
+        long total,
+        long active,
+        long inactive,
+        List<BrandStatisticsResource> brands
+) {
+}
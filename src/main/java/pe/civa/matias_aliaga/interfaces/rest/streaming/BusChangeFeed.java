@@ -0,0 +1,109 @@
+package pe.civa.matias_aliaga.interfaces.rest.streaming;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import pe.civa.matias_aliaga.domain.model.events.BusCreatedEvent;
+import pe.civa.matias_aliaga.domain.model.events.BusesImportedEvent;
+import pe.civa.matias_aliaga.interfaces.rest.transform.BusResourceFromEntityAssembler;
+import pe.civa.matias_aliaga.shared.interfaces.rest.streaming.ServerSentEventBroadcaster;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+
+/**
+ * Feed of the changes made to the buses, published to the clients of GET /api/v1/buses/stream as server-sent events.
+ * Events are published once the transaction creating the buses commits, so clients never see rolled back buses.
+ */
+@Component
+public class BusChangeFeed implements DisposableBean {
+
+    /** Name of the event sent for every created bus, carrying the bus resource */
+    public static final String BUS_CREATED_EVENT = "bus-created";
+
+    /** Name of the event sent when an import created buses, carrying the import ID and the number of buses */
+    public static final String BUSES_IMPORTED_EVENT = "buses-imported";
+
+    /** Broadcaster holding the subscribers and the recent events */
+    private final ServerSentEventBroadcaster broadcaster;
+
+    /** Mapper serialising each event once for all subscribers */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Constructor for BusChangeFeed.
+     * @param objectMapper The JSON mapper used for the event data
+     * @param meterRegistry The registry where the subscriber and eviction meters are published
+     * @param historySize Number of events replayed to reconnecting clients
+     * @param bufferSize Maximum number of events pending to be sent to a client before it is evicted
+     * @param heartbeatInterval Interval between the heartbeats sent to idle clients
+     * @param timeout Time after which a subscription ends and the client has to reconnect
+     */
+    @Autowired
+    public BusChangeFeed(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                         @Value("${civa.buses.stream.history-size:1024}") int historySize,
+                         @Value("${civa.buses.stream.buffer-size:256}") int bufferSize,
+                         @Value("${civa.buses.stream.heartbeat-interval:15s}") Duration heartbeatInterval,
+                         @Value("${civa.buses.stream.timeout:30m}") Duration timeout) {
+        this.objectMapper = objectMapper;
+        this.broadcaster = new ServerSentEventBroadcaster(historySize, bufferSize, heartbeatInterval, timeout);
+        Gauge.builder("civa.sse.subscribers", broadcaster, ServerSentEventBroadcaster::getSubscriberCount)
+                .tag("feed", "buses")
+                .description("Clients subscribed to the server-sent event feed")
+                .register(meterRegistry);
+        FunctionCounter.builder("civa.sse.evictions", broadcaster, ServerSentEventBroadcaster::getEvictionCount)
+                .tag("feed", "buses")
+                .description("Clients evicted from the server-sent event feed because they did not keep up")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Subscribes a client to the feed.
+     * @param lastEventId The Last-Event-ID sent by a reconnecting client, or null for a new client
+     * @return The emitter streaming the events to the client
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        return broadcaster.subscribe(lastEventId);
+    }
+
+    /**
+     * Publishes a created bus once its transaction commits.
+     * @param event The bus created event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(BusCreatedEvent event) {
+        try {
+            var resource = BusResourceFromEntityAssembler.toResource(event.bus());
+            broadcaster.publish(BUS_CREATED_EVENT, objectMapper.writeValueAsString(resource));
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Publishes the outcome of an import that created buses, so clients reload the buses they show.
+     * Imported buses are not sent one by one, an import may create tens of thousands of them.
+     * @param event The buses imported event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(BusesImportedEvent event) {
+        try {
+            broadcaster.publish(BUSES_IMPORTED_EVENT, objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        broadcaster.close();
+    }
+}
@@ -0,0 +1,33 @@
+package pe.civa.matias_aliaga.interfaces.rest.transform;
+
+import pe.civa.matias_aliaga.domain.model.projections.BusImportProgress;
+import pe.civa.matias_aliaga.interfaces.rest.resources.BusImportIssueResource;
+import pe.civa.matias_aliaga.interfaces.rest.resources.BusImportResource;
+
+/**
+ * Assembler class for converting BusImportProgress projections to BusImportResource DTOs.
+ */
+public class BusImportResourceFromProgressAssembler {
+
+    /**
+     * Converts a BusImportProgress projection to a BusImportResource DTO.
+     *
+     * @param progress The BusImportProgress projection to convert
+     * @return A BusImportResource containing the progress of the import
+     */
+    public static BusImportResource toResource(BusImportProgress progress) {
+        return new BusImportResource(
+                progress.id(),
+                progress.fileName(),
+                progress.status().name().toLowerCase(),
+                progress.linesRead(),
+                progress.linesRejected(),
+                progress.busesImported(),
+                progress.duplicates(),
+                progress.issues().stream().map(issue -> new BusImportIssueResource(issue.line(), issue.message())).toList(),
+                progress.failure(),
+                progress.submittedAt(),
+                progress.finishedAt()
+        );
+    }
+}
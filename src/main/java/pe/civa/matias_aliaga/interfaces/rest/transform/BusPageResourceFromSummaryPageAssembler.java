@@ -0,0 +1,32 @@
+package pe.civa.matias_aliaga.interfaces.rest.transform;
+
+import pe.civa.matias_aliaga.domain.model.projections.BusSummaryPage;
+import pe.civa.matias_aliaga.interfaces.rest.resources.BusPageResource;
+
+/**
+ * Assembler class for converting BusSummaryPage projections to BusPageResource DTOs.
+ */
+public class BusPageResourceFromSummaryPageAssembler {
+
+    /**
+     * Converts a BusSummaryPage projection to a BusPageResource DTO.
+     *
+     * @param page The BusSummaryPage projection to convert
+     * @return A BusPageResource containing the buses of the page and the total, when known
+     */
+    public static BusPageResource toResource(BusSummaryPage page) {
+        var slice = page.slice();
+        var totalElements = page.totalElements();
+        var totalPages = totalElements == null ? null : (int) ((totalElements + slice.getSize() - 1) / slice.getSize());
+        return new BusPageResource(
+                slice.getContent().stream().map(BusResourceFromSummaryAssembler::toResource).toList(),
+                slice.getNumber(),
+                slice.getSize(),
+                slice.isFirst(),
+                slice.isLast(),
+                totalElements,
+                totalPages,
+                page.totalMode().name().toLowerCase()
+        );
+    }
+}
@@ -0,0 +1,29 @@
+package pe.civa.matias_aliaga.interfaces.rest.transform;
+
+import pe.civa.matias_aliaga.domain.model.projections.BusSummary;
+import pe.civa.matias_aliaga.interfaces.rest.resources.BusResource;
+
+/**
+ * Assembler class for converting BusSummary projections to BusResource DTOs.
+ * Provides static methods to transform read-side projections to REST API resource representations.
+ */
+public class BusResourceFromSummaryAssembler {
+
+    /**
+     * Converts a BusSummary projection to a BusResource DTO.
+     *
+     * @param summary The BusSummary projection to convert
+     * @return A BusResource containing the projection data formatted for API responses
+     */
+    public static BusResource toResource(BusSummary summary) {
+        return new BusResource(
+                summary.id(),
+                summary.licensePlate(),
+                summary.brand().name(),
+                summary.characteristics(),
+                summary.busNumber(),
+                summary.isActive(),
+                summary.createdAt()
+        );
+    }
+}
@@ -0,0 +1,33 @@
+package pe.civa.matias_aliaga.interfaces.rest.transform;
+
+import pe.civa.matias_aliaga.domain.model.valueobjects.BusBrands;
+import pe.civa.matias_aliaga.domain.model.valueobjects.BusSearchCriteria;
+import pe.civa.matias_aliaga.interfaces.rest.resources.BusSearchResource;
+
+import java.util.Date;
+
+/**
+ * Assembler class for converting BusSearchResource DTOs to BusSearchCriteria value objects.
+ */
+public class BusSearchCriteriaFromResourceAssembler {
+
+    /**
+     * Converts a BusSearchResource DTO to a BusSearchCriteria value object.
+     *
+     * @param resource The BusSearchResource DTO to convert, may be null when no filter was sent
+     * @return A BusSearchCriteria holding the filters of the resource
+     * @throws IllegalArgumentException if the brand doesn't exist or a range is inverted
+     */
+    public static BusSearchCriteria toCriteriaFromResource(BusSearchResource resource) {
+        if (resource == null) return BusSearchCriteria.none();
+        return new BusSearchCriteria(
+                resource.brand() == null || resource.brand().isBlank() ? null : BusBrands.fromString(resource.brand()),
+                resource.isActive(),
+                resource.busNumberFrom(),
+                resource.busNumberTo(),
+                resource.createdFrom() == null ? null : Date.from(resource.createdFrom()),
+                resource.createdTo() == null ? null : Date.from(resource.createdTo()),
+                resource.characteristics()
+        );
+    }
+}
@@ -0,0 +1,28 @@
+package pe.civa.matias_aliaga.interfaces.rest.transform;
+
+import pe.civa.matias_aliaga.domain.model.projections.FleetStatistics;
+import pe.civa.matias_aliaga.interfaces.rest.resources.BrandStatisticsResource;
+import pe.civa.matias_aliaga.interfaces.rest.resources.FleetStatisticsResource;
+
+/**
+ * Assembler class for converting FleetStatistics projections to FleetStatisticsResource DTOs.
+ */
+public class FleetStatisticsResourceFromProjectionAssembler {
+
+    /**
+     * Converts a FleetStatistics projection to a FleetStatisticsResource DTO.
+     *
+     * @param statistics The FleetStatistics projection to convert
+     * @return A FleetStatisticsResource containing the number of buses overall and per brand
+     */
+    public static FleetStatisticsResource toResource(FleetStatistics statistics) {
+        return new FleetStatisticsResource(
+                statistics.total(),
+                statistics.active(),
+                statistics.inactive(),
+                statistics.brands().stream()
+                        .map(brand -> new BrandStatisticsResource(brand.brand().name(), brand.total(), brand.active(), brand.inactive()))
+                        .toList()
+        );
+    }
+}
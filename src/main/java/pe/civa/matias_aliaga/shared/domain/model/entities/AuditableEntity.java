@@ -18,18 +18,21 @@ import java.util.Date;
 @Getter
 public class AuditableEntity{
 
-    /** Unique identifier for the entity, auto-generated */
+    /**
+     * Unique identifier for the entity, generated from a per-entity sequence (e.g. buses_seq).
+     * Identifiers are allocated in blocks of 50, so inserts can be grouped into JDBC batches.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     private Long id;
 
     /** Timestamp when the entity was created (immutable after creation) */
     @CreatedDate
-    @Column(nullable = false, updatable = false)
+    @Column(name = "created_at", nullable = false, updatable = false)
     private Date createdAt;
 
     /** Timestamp when the entity was last modified (updated automatically) */
     @LastModifiedDate
-    @Column(nullable = false)
+    @Column(name = "updated_at", nullable = false)
     private Date updatedAt;
 }
\ No newline at end of file
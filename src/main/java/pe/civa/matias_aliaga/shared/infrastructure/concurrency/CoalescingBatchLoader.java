@@ -0,0 +1,250 @@
+package pe.civa.matias_aliaga.shared.infrastructure.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Loads values by key, coalescing concurrent lookups into batches.
+ * <p>
+ * Concurrent lookups of the same key share a single load (singleflight). The window adapts to the load: a lookup
+ * arriving while no batch is loading nor pending is loaded at once by its own thread, so a lone caller never waits.
+ * Distinct keys requested while a batch is loading are collected and loaded with one call to the batch function,
+ * as soon as the batches in progress complete, the window elapses or the batch is full. A zero window disables
+ * batching and keeps only the singleflight. Values are never cached: a lookup made after a load completes starts
+ * a new one.
+ * <p>
+ * Publishes civa.batch.requests, civa.batch.coalesced, civa.batch.calls and civa.batch.size, tagged with the loader
+ * name; requests divided by calls is the coalescing ratio.
+ *
+ * @param <K> The key type
+ * @param <V> The value type
+ */
+public class CoalescingBatchLoader<K, V> implements AutoCloseable {
+
+    /** Loads the values of a batch of keys; keys without a value are left out of the returned map */
+    private final Function<Set<K>, Map<K, V>> batchFunction;
+
+    /** Time a key waits for other keys before its batch is loaded, in nanoseconds */
+    private final long windowNanos;
+
+    /** Number of keys after which a batch is loaded without waiting for the window */
+    private final int maxBatchSize;
+
+    /** Loads in flight, shared by the concurrent lookups of the same key */
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    /** Guards the pending batch; a lock instead of synchronized so virtual threads do not pin their carrier */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /** Keys waiting for the window to elapse */
+    private Set<K> pending = new LinkedHashSet<>();
+
+    /** Number of batches being loaded, guarded by the lock */
+    private int loading;
+
+    /** Thread flushing the pending batch once the window elapses */
+    private final ScheduledExecutorService timer;
+
+    /** Threads running the batch function */
+    private final ExecutorService loaders = Executors.newVirtualThreadPerTaskExecutor();
+
+    /** Lookups requested */
+    private final Counter requests;
+
+    /** Lookups served by a load already in flight */
+    private final Counter coalesced;
+
+    /** Calls to the batch function */
+    private final Counter calls;
+
+    /** Keys per call to the batch function */
+    private final DistributionSummary batchSize;
+
+    /**
+     * Constructor for CoalescingBatchLoader.
+     * @param name The loader name, used to tag its metrics and name its thread
+     * @param batchFunction Loads the values of a batch of keys, leaving out the keys without a value
+     * @param window Time a key waits for other keys before its batch is loaded, zero to load every key at once
+     * @param maxBatchSize Number of keys after which a batch is loaded without waiting for the window
+     * @param meterRegistry The registry where the metrics are published
+     */
+    public CoalescingBatchLoader(String name, Function<Set<K>, Map<K, V>> batchFunction, Duration window,
+                                 int maxBatchSize, MeterRegistry meterRegistry) {
+        if (window.isNegative() || maxBatchSize < 1)
+            throw new IllegalArgumentException("Batch window must not be negative and batch size must be positive");
+        this.batchFunction = batchFunction;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.timer = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name(name + "-batch").daemon().factory());
+        this.requests = Counter.builder("civa.batch.requests").description("Lookups requested")
+                .tag("loader", name).register(meterRegistry);
+        this.coalesced = Counter.builder("civa.batch.coalesced").description("Lookups served by a load already in flight")
+                .tag("loader", name).register(meterRegistry);
+        this.calls = Counter.builder("civa.batch.calls").description("Batch loads")
+                .tag("loader", name).register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("civa.batch.size").description("Keys per batch load")
+                .tag("loader", name).register(meterRegistry);
+    }
+
+    /**
+     * Loads the value of a key, waiting for its batch to be loaded.
+     * @param key The key
+     * @return Optional containing the value if the key has one, empty otherwise
+     */
+    public Optional<V> load(K key) {
+        requests.increment();
+        var future = new CompletableFuture<V>();
+        var existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            coalesced.increment();
+            return await(existing);
+        }
+        enqueue(key);
+        return await(future);
+    }
+
+    /**
+     * Stops the threads of the loader. Pending lookups are not completed.
+     */
+    @Override
+    public void close() {
+        timer.shutdownNow();
+        loaders.shutdown();
+    }
+
+    /**
+     * Loads a key at once if the loader is idle, otherwise adds it to the pending batch, loading the batch if it is full.
+     * @param key The key, whose future is already in flight
+     */
+    private void enqueue(K key) {
+        Set<K> full = null;
+        boolean first = false;
+        boolean idle;
+        lock.lock();
+        try {
+            idle = windowNanos == 0 || (loading == 0 && pending.isEmpty());
+            if (idle) {
+                loading++;
+            } else {
+                first = pending.isEmpty();
+                pending.add(key);
+                if (pending.size() >= maxBatchSize) {
+                    full = takePending();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (idle) {
+            flush(Set.of(key));
+        } else if (full != null) {
+            var batch = full;
+            loaders.execute(() -> flush(batch));
+        } else if (first) {
+            timer.schedule(this::flushPending, windowNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Loads the pending batch once its window has elapsed, unless it was already loaded.
+     */
+    private void flushPending() {
+        Set<K> batch;
+        lock.lock();
+        try {
+            if (pending.isEmpty()) return;
+            batch = takePending();
+        } finally {
+            lock.unlock();
+        }
+        loaders.execute(() -> flush(batch));
+    }
+
+    /**
+     * Takes the pending batch to load it, counting it as loading. Must be called holding the lock.
+     * @return The pending keys
+     */
+    private Set<K> takePending() {
+        var batch = pending;
+        pending = new LinkedHashSet<>();
+        loading++;
+        return batch;
+    }
+
+    /**
+     * Loads a batch, then the keys that became pending meanwhile if no other batch is still loading.
+     * @param batch The keys to load
+     */
+    private void flush(Set<K> batch) {
+        try {
+            loadBatch(batch);
+        } finally {
+            Set<K> next = null;
+            lock.lock();
+            try {
+                loading--;
+                if (loading == 0 && !pending.isEmpty()) next = takePending();
+            } finally {
+                lock.unlock();
+            }
+            if (next != null) {
+                var nextBatch = next;
+                loaders.execute(() -> flush(nextBatch));
+            }
+        }
+    }
+
+    /**
+     * Loads a batch and completes the lookups waiting for its keys.
+     * Loads are removed from the in-flight map before they are completed, so later lookups start a new load.
+     * @param batch The keys to load
+     */
+    private void loadBatch(Set<K> batch) {
+        calls.increment();
+        batchSize.record(batch.size());
+        Map<K, V> values;
+        try {
+            values = batchFunction.apply(batch);
+        } catch (RuntimeException ex) {
+            for (var key : batch) {
+                var future = inFlight.remove(key);
+                if (future != null) future.completeExceptionally(ex);
+            }
+            return;
+        }
+        for (var key : batch) {
+            var future = inFlight.remove(key);
+            if (future != null) future.complete(values.get(key));
+        }
+    }
+
+    /**
+     * Waits for a load to complete.
+     * @param future The load
+     * @return Optional containing the loaded value, empty if the key has none
+     */
+    private static <V> Optional<V> await(CompletableFuture<V> future) {
+        try {
+            return Optional.ofNullable(future.join());
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) throw cause;
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package pe.civa.matias_aliaga.shared.infrastructure.concurrency.configuration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Configuration of the executor running the bus imports.
+ * Imports run one at a time, so a large import never competes with another one for the primary database,
+ * and only a few more may wait for their turn.
+ */
+@Configuration
+public class BusImportExecutorConfiguration {
+
+    /**
+     * Executor running the bus imports in the background.
+     * @param queueCapacity Number of imports that may wait while another one runs
+     * @return The bus import executor
+     */
+    @Bean
+    public ThreadPoolTaskExecutor busImportExecutor(@Value("${civa.buses.import.queue-capacity:4}") int queueCapacity) {
+        var executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("bus-import-");
+        return executor;
+    }
+}
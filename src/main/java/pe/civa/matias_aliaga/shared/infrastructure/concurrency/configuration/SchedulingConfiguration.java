@@ -0,0 +1,12 @@
+package pe.civa.matias_aliaga.shared.infrastructure.concurrency.configuration;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Configuration enabling the scheduled tasks, such as the periodic reconciliation of the in-memory read models.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfiguration {
+}
@@ -0,0 +1,151 @@
+package pe.civa.matias_aliaga.shared.infrastructure.csv;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming reader of comma-separated values as described by RFC 4180.
+ * Reads one record at a time, so memory stays bounded by the longest record whatever the size of the input.
+ * Fields may be quoted to contain commas, line breaks or doubled quotes; records end with LF or CRLF.
+ */
+public class CsvReader implements Closeable {
+
+    /** Source of the characters */
+    private final Reader reader;
+
+    /** Maximum number of characters a record may have */
+    private final int maxRecordLength;
+
+    /** Characters read ahead from the source */
+    private final char[] buffer = new char[8192];
+
+    /** Position of the next character to read in the buffer */
+    private int position;
+
+    /** Number of characters available in the buffer */
+    private int limit;
+
+    /** Line on which the next record starts, one-based */
+    private long line = 1;
+
+    /** Line on which the last record returned starts, one-based */
+    private long recordLine;
+
+    /**
+     * Constructor for CsvReader.
+     * @param reader The source of the characters, buffering is done by the CSV reader
+     * @param maxRecordLength Maximum number of characters a record may have
+     */
+    public CsvReader(Reader reader, int maxRecordLength) {
+        this.reader = reader;
+        this.maxRecordLength = maxRecordLength;
+    }
+
+    /**
+     * Reads the next record.
+     * @return The fields of the record, or null at the end of the input
+     * @throws IOException if the source cannot be read
+     * @throws IllegalArgumentException if the record is malformed or too long
+     */
+    public List<String> readRecord() throws IOException {
+        int c = read();
+        if (c == -1) return null;
+        recordLine = line;
+        var fields = new ArrayList<String>();
+        var field = new StringBuilder();
+        int length = 0;
+        boolean quoted = false;
+        boolean fieldStart = true;
+        while (true) {
+            if (++length > maxRecordLength)
+                throw new IllegalArgumentException("Record starting on line " + recordLine + " is longer than " + maxRecordLength + " characters");
+            if (quoted) {
+                if (c == -1) throw new IllegalArgumentException("Unterminated quoted field on line " + recordLine);
+                if (c == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = next;
+                        if (c != ',' && c != '\r' && c != '\n' && c != -1)
+                            throw new IllegalArgumentException("Unexpected character after quoted field on line " + line);
+                        continue;
+                    }
+                } else {
+                    if (c == '\n') line++;
+                    field.append((char) c);
+                }
+            } else if (c == '"' && fieldStart) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                fieldStart = true;
+                c = read();
+                continue;
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r' && peek() == '\n') read();
+                if (c != -1) line++;
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            fieldStart = false;
+            c = read();
+        }
+    }
+
+    /**
+     * Gets the line on which the last record returned starts.
+     * @return The one-based line number
+     */
+    public long getRecordLine() {
+        return recordLine;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Reads the next character.
+     * @return The character, or -1 at the end of the input
+     * @throws IOException if the source cannot be read
+     */
+    private int read() throws IOException {
+        if (position == limit && !fill()) return -1;
+        return buffer[position++];
+    }
+
+    /**
+     * Reads the next character without consuming it.
+     * @return The character, or -1 at the end of the input
+     * @throws IOException if the source cannot be read
+     */
+    private int peek() throws IOException {
+        if (position == limit && !fill()) return -1;
+        return buffer[position];
+    }
+
+    /**
+     * Refills the buffer from the source.
+     * @return true if characters were read, false at the end of the input
+     * @throws IOException if the source cannot be read
+     */
+    private boolean fill() throws IOException {
+        int read;
+        do {
+            read = reader.read(buffer, 0, buffer.length);
+        } while (read == 0);
+        if (read < 0) return false;
+        position = 0;
+        limit = read;
+        return true;
+    }
+}
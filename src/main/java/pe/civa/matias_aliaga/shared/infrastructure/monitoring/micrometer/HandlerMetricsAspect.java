@@ -0,0 +1,120 @@
+package pe.civa.matias_aliaga.shared.infrastructure.monitoring.micrometer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import pe.civa.matias_aliaga.shared.infrastructure.persistence.jpa.UniqueConstraintViolations;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Aspect recording a timer around every handle overload of the domain services.
+ * Each use case is published as the civa.handler timer, tagged by the domain service,
+ * the handled command or query type and the outcome, so latency percentiles and
+ * call counts can be compared per use case and per failure cause.
+ */
+@Aspect
+@Component
+public class HandlerMetricsAspect {
+    /** Name of the timer recorded for each handled command or query */
+    public static final String METRIC_NAME = "civa.handler";
+
+    /** Package holding the domain service interfaces */
+    private static final String DOMAIN_SERVICES_PACKAGE = "pe.civa.matias_aliaga.domain.services";
+
+    /** Package holding the domain exceptions, thrown when a command or query is refused rather than failing */
+    private static final String DOMAIN_EXCEPTIONS_PACKAGE = "pe.civa.matias_aliaga.domain.model.exceptions";
+
+    /** Registry where the timers are published */
+    private final MeterRegistry meterRegistry;
+
+    /** Service and type tags resolved once per intercepted method */
+    private final Map<Method, Tags> handlerTags = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor for HandlerMetricsAspect.
+     * @param meterRegistry The registry where the timers are published
+     */
+    @Autowired
+    public HandlerMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Times a handle invocation and records it with its outcome.
+     * Handlers returning an empty Optional are recorded with the not_found outcome, and those refusing the command
+     * or query, such as a duplicated bus, with the rejected outcome, so the error outcome only counts actual failures.
+     * @param joinPoint The intercepted handle invocation
+     * @return The value returned by the handler
+     * @throws Throwable Any exception thrown by the handler, rethrown unchanged
+     */
+    @Around("execution(* pe.civa.matias_aliaga.domain.services.*Service+.handle(..))")
+    public Object timeHandler(ProceedingJoinPoint joinPoint) throws Throwable {
+        var method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        var tags = handlerTags.computeIfAbsent(method, key -> resolveTags(key, joinPoint.getTarget().getClass()));
+        var sample = Timer.start(meterRegistry);
+        var outcome = "success";
+        var exception = "none";
+        try {
+            var result = joinPoint.proceed();
+            if (result instanceof Optional<?> optional && optional.isEmpty()) outcome = "not_found";
+            return result;
+        } catch (Throwable ex) {
+            outcome = classify(ex);
+            exception = ex.getClass().getSimpleName();
+            throw ex;
+        } finally {
+            sample.stop(Timer.builder(METRIC_NAME)
+                    .description("Time taken by the domain services to handle commands and queries")
+                    .tags(tags)
+                    .tag("outcome", outcome)
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Gets the outcome of a handler that threw an exception.
+     * Invalid arguments, domain exceptions and unique constraint violations refuse the request, like a duplicated bus
+     * answered with 409 or a full import queue answered with 503, so they are not counted as errors. Other integrity
+     * violations, such as not-null or foreign key ones, are defects and count as errors.
+     * @param ex The exception thrown by the handler
+     * @return The not_found, rejected or error outcome
+     */
+    private static String classify(Throwable ex) {
+        if (ex.getClass().getPackageName().equals(DOMAIN_EXCEPTIONS_PACKAGE))
+            return ex.getClass().getSimpleName().endsWith("NotFoundException") ? "not_found" : "rejected";
+        if (ex instanceof IllegalArgumentException) return "rejected";
+        if (ex instanceof DataIntegrityViolationException && UniqueConstraintViolations.isUniqueViolation(ex)) return "rejected";
+        return "error";
+    }
+
+    /**
+     * Resolves the service and type tags of a handle method.
+     * The service is the domain service interface implemented by the target, and the type
+     * is the declared type of the command or query parameter.
+     * @param method The intercepted method
+     * @param targetClass The class of the service implementation
+     * @return The service and type tags
+     */
+    private static Tags resolveTags(Method method, Class<?> targetClass) {
+        var service = Arrays.stream(targetClass.getInterfaces())
+                .filter(type -> type.getPackageName().equals(DOMAIN_SERVICES_PACKAGE))
+                .map(Class::getSimpleName)
+                .findFirst()
+                .orElse(targetClass.getSimpleName());
+        var type = method.getParameterCount() == 0 ? "none" : method.getParameterTypes()[0].getSimpleName();
+        return Tags.of("service", service, "type", type);
+    }
+}
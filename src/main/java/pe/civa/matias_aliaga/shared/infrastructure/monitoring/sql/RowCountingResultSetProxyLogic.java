@@ -0,0 +1,50 @@
+package pe.civa.matias_aliaga.shared.infrastructure.monitoring.sql;
+
+import net.ttddyy.dsproxy.proxy.ProxyJdbcObject;
+import net.ttddyy.dsproxy.proxy.ResultSetProxyLogic;
+import net.ttddyy.dsproxy.proxy.ResultSetProxyLogicFactory;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.ResultSet;
+
+/**
+ * Result set proxy recording the rows read in the open SqlStatementScope.
+ * <p>
+ * Only next() is intercepted: every other call is forwarded to the result set without creating an execution
+ * context or notifying a listener, so reading the columns of a row costs a single reflective call.
+ * Still, that call is paid for every column of every row, which is why row accounting is opt-in.
+ */
+public class RowCountingResultSetProxyLogic implements ResultSetProxyLogic {
+
+    /** Factory creating the proxy logic of each result set */
+    public static final ResultSetProxyLogicFactory FACTORY = (resultSet, connectionInfo, proxyConfig) ->
+            new RowCountingResultSetProxyLogic(resultSet);
+
+    /** Result set being proxied */
+    private final ResultSet resultSet;
+
+    /**
+     * Constructor for RowCountingResultSetProxyLogic.
+     * @param resultSet The result set being proxied
+     */
+    public RowCountingResultSetProxyLogic(ResultSet resultSet) {
+        this.resultSet = resultSet;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == ProxyJdbcObject.class) return resultSet;
+        if ("next".equals(method.getName()) && method.getParameterCount() == 0) {
+            var hasRow = resultSet.next();
+            if (hasRow) SqlStatementScope.recordRowRead();
+            return hasRow;
+        }
+        if ("equals".equals(method.getName()) && method.getParameterCount() == 1) return proxy == args[0];
+        try {
+            return method.invoke(resultSet, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package pe.civa.matias_aliaga.shared.infrastructure.monitoring.sql;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Listener of the JDBC proxy recording every statement in the open SqlStatementScope and logging slow statements.
+ * It is only notified of statement executions, never of the other JDBC calls.
+ * Slow statements are logged with their placeholders only, never their parameters, and sampled so a slow database
+ * cannot flood the log.
+ */
+public class SqlStatementListener implements QueryExecutionListener {
+    private static final Logger logger = LoggerFactory.getLogger(SqlStatementListener.class);
+
+    /** Key of the start time stored in the execution info */
+    private static final String STARTED_AT = SqlStatementListener.class.getName() + ".startedAt";
+
+    /** Execution time from which a statement is slow, in nanoseconds */
+    private final long slowThresholdNanos;
+
+    /** Fraction of the slow statements that are logged */
+    private final double slowLogSampleRate;
+
+    /**
+     * Constructor for SqlStatementListener.
+     * @param slowThreshold Execution time from which a statement is slow
+     * @param slowLogSampleRate Fraction of the slow statements that are logged, between zero and one
+     */
+    public SqlStatementListener(Duration slowThreshold, double slowLogSampleRate) {
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.slowLogSampleRate = slowLogSampleRate;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        execInfo.addCustomValue(STARTED_AT, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        var startedAt = execInfo.getCustomValue(STARTED_AT, Long.class);
+        var elapsed = startedAt == null ? 0 : System.nanoTime() - startedAt;
+        var sql = queryInfoList.isEmpty() ? "" : queryInfoList.getFirst().getQuery();
+        SqlStatementScope.recordStatement(sql, elapsed, writtenRows(execInfo.getResult()));
+        if (elapsed >= slowThresholdNanos && ThreadLocalRandom.current().nextDouble() < slowLogSampleRate) {
+            logger.info("Slow SQL statement took {} ms in {}: {}", elapsed / 1_000_000,
+                    SqlStatementScope.current().map(SqlStatementScope::getName).orElse("no scope"), sql);
+        }
+    }
+
+    /**
+     * Gets the number of rows written by a statement from its result.
+     * @param result The result of the statement: an update count, the update counts of a batch or a result set
+     * @return The number of rows written, zero for queries
+     */
+    private static long writtenRows(Object result) {
+        if (result instanceof Integer count) return Math.max(0, count);
+        if (result instanceof Long count) return Math.max(0, count);
+        if (result instanceof int[] counts) {
+            long rows = 0;
+            for (var count : counts) rows += Math.max(0, count);
+            return rows;
+        }
+        if (result instanceof long[] counts) {
+            long rows = 0;
+            for (var count : counts) rows += Math.max(0, count);
+            return rows;
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,68 @@
+package pe.civa.matias_aliaga.shared.infrastructure.monitoring.sql;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Publishes the statement accounting of a closed scope and warns about the statements it repeated.
+ * Each scope is published as the civa.sql.statements and civa.sql.rows summaries and the civa.sql.time timer,
+ * tagged by scope kind (request or handler) and name; repeated statements increment civa.sql.repeated.
+ */
+public class SqlStatementReporter {
+    private static final Logger logger = LoggerFactory.getLogger(SqlStatementReporter.class);
+
+    /** Registry where the accounting is published */
+    private final MeterRegistry meterRegistry;
+
+    /** Number of executions from which an identical statement is reported as a possible N+1 */
+    private final int repeatedStatementThreshold;
+
+    /**
+     * Constructor for SqlStatementReporter.
+     * @param meterRegistry The registry where the accounting is published
+     * @param repeatedStatementThreshold Number of executions from which an identical statement is reported
+     */
+    public SqlStatementReporter(MeterRegistry meterRegistry, int repeatedStatementThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.repeatedStatementThreshold = repeatedStatementThreshold;
+    }
+
+    /**
+     * Publishes the accounting of a scope.
+     * @param scope The scope, once everything running in it has finished
+     * @param kind The kind of scope, request or handler
+     * @param name The low-cardinality name of what ran in the scope, such as a route or a query type
+     */
+    public void report(SqlStatementScope scope, String kind, String name) {
+        if (scope.getStatementCount() == 0) return;
+        DistributionSummary.builder("civa.sql.statements")
+                .description("SQL statements executed per scope")
+                .tag("scope", kind).tag("name", name)
+                .register(meterRegistry)
+                .record(scope.getStatementCount());
+        DistributionSummary.builder("civa.sql.rows")
+                .description("Rows read or written per scope")
+                .tag("scope", kind).tag("name", name)
+                .register(meterRegistry)
+                .record(scope.getRowCount());
+        Timer.builder("civa.sql.time")
+                .description("Time spent executing SQL statements per scope")
+                .tag("scope", kind).tag("name", name)
+                .register(meterRegistry)
+                .record(scope.getElapsed());
+
+        var repeated = scope.getRepeatedStatements(repeatedStatementThreshold);
+        if (repeated.isEmpty()) return;
+        Counter.builder("civa.sql.repeated")
+                .description("Scopes executing an identical statement repeatedly, a possible N+1")
+                .tag("scope", kind).tag("name", name)
+                .register(meterRegistry)
+                .increment();
+        repeated.forEach((sql, count) ->
+                logger.warn("Possible N+1 in {} {}: statement executed {} times: {}", kind, scope.getName(), count, sql));
+    }
+}
@@ -0,0 +1,152 @@
+package pe.civa.matias_aliaga.shared.infrastructure.monitoring.sql;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Accounts for the SQL statements executed by the current thread while the scope is open.
+ * <p>
+ * Scopes nest: a statement is recorded in the innermost scope and in every scope enclosing it, so an HTTP request
+ * sees the statements of all its handler calls. Scopes are confined to the thread that opened them; statements
+ * executed by other threads, such as streamed responses or batch loaders, are not recorded.
+ * <p>
+ * Besides monitoring, scopes are the test API of the statement accounting:
+ * <pre>{@code
+ * try (var scope = SqlStatementScope.open("test")) {
+ *     mockMvc.perform(get("/api/v1/buses").param("paginated", "true").param("totals", "none"));
+ *     assertThat(scope.getStatementCount()).isLessThanOrEqualTo(2);
+ * }
+ * }</pre>
+ */
+public final class SqlStatementScope implements AutoCloseable {
+
+    /** Innermost scope open on each thread */
+    private static final ThreadLocal<SqlStatementScope> CURRENT = new ThreadLocal<>();
+
+    /** Name describing what runs in the scope */
+    private final String name;
+
+    /** Enclosing scope, null for the outermost one */
+    private final SqlStatementScope parent;
+
+    /** Number of statements executed */
+    private int statementCount;
+
+    /** Time spent executing the statements, in nanoseconds */
+    private long elapsedNanos;
+
+    /** Number of rows written by the statements, plus the rows read when row reads are counted */
+    private long rowCount;
+
+    /** Number of executions of each distinct statement, in order of first execution */
+    private final Map<String, Integer> executions = new LinkedHashMap<>();
+
+    /**
+     * Constructor for SqlStatementScope.
+     * @param name Name describing what runs in the scope
+     * @param parent Enclosing scope, null for the outermost one
+     */
+    private SqlStatementScope(String name, SqlStatementScope parent) {
+        this.name = name;
+        this.parent = parent;
+    }
+
+    /**
+     * Opens a scope on the current thread, nested in the scope already open if any.
+     * @param name Name describing what runs in the scope
+     * @return The scope, to be closed by the same thread
+     */
+    public static SqlStatementScope open(String name) {
+        var scope = new SqlStatementScope(name, CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * Gets the innermost scope open on the current thread.
+     * @return Optional containing the current scope, empty if none is open
+     */
+    public static Optional<SqlStatementScope> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    /**
+     * Records a statement executed by the current thread in every open scope.
+     * @param sql The statement, with placeholders instead of its parameters
+     * @param elapsedNanos Time spent executing it, in nanoseconds
+     * @param rows Number of rows it wrote, zero for queries whose rows are recorded as they are read
+     */
+    static void recordStatement(String sql, long elapsedNanos, long rows) {
+        for (var scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.statementCount++;
+            scope.elapsedNanos += elapsedNanos;
+            scope.rowCount += rows;
+            scope.executions.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Records a row read by the current thread in every open scope.
+     */
+    static void recordRowRead() {
+        for (var scope = CURRENT.get(); scope != null; scope = scope.parent) scope.rowCount++;
+    }
+
+    /**
+     * Gets the name describing what runs in the scope.
+     * @return The scope name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the number of statements executed in the scope.
+     * @return The number of statements
+     */
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    /**
+     * Gets the time spent executing the statements of the scope, excluding the time spent reading their rows.
+     * @return The execution time
+     */
+    public Duration getElapsed() {
+        return Duration.ofNanos(elapsedNanos);
+    }
+
+    /**
+     * Gets the number of rows written by the statements of the scope, plus the rows they read when
+     * civa.sql.count-rows-read is enabled.
+     * @return The number of rows
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Finds the statements executed at least the given number of times, the usual sign of an N+1 problem.
+     * @param minExecutions Minimum number of executions of a statement
+     * @return The repeated statements with their number of executions, in order of first execution
+     */
+    public Map<String, Integer> getRepeatedStatements(int minExecutions) {
+        var repeated = new LinkedHashMap<String, Integer>();
+        executions.forEach((sql, count) -> {
+            if (count >= minExecutions) repeated.put(sql, count);
+        });
+        return repeated;
+    }
+
+    /**
+     * Closes the scope, making its enclosing scope the current one again.
+     */
+    @Override
+    public void close() {
+        if (CURRENT.get() != this) return;
+        if (parent == null) CURRENT.remove();
+        else CURRENT.set(parent);
+    }
+}
@@ -0,0 +1,44 @@
+package pe.civa.matias_aliaga.shared.infrastructure.monitoring.sql;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+
+/**
+ * Aspect accounting for the SQL statements executed by every handle overload of the domain services.
+ * Each call is named after the handled command or query type.
+ */
+@Aspect
+public class SqlStatementScopeAspect {
+
+    /** Reporter publishing the accounting of each call */
+    private final SqlStatementReporter reporter;
+
+    /**
+     * Constructor for SqlStatementScopeAspect.
+     * @param reporter The reporter publishing the accounting of each call
+     */
+    public SqlStatementScopeAspect(SqlStatementReporter reporter) {
+        this.reporter = reporter;
+    }
+
+    /**
+     * Runs a handle invocation in its own scope and publishes its accounting.
+     * @param joinPoint The intercepted handle invocation
+     * @return The value returned by the handler
+     * @throws Throwable Any exception thrown by the handler, rethrown unchanged
+     */
+    @Around("execution(* pe.civa.matias_aliaga.domain.services.*Service+.handle(..))")
+    public Object accountStatements(ProceedingJoinPoint joinPoint) throws Throwable {
+        var parameterTypes = ((MethodSignature) joinPoint.getSignature()).getParameterTypes();
+        var type = parameterTypes.length == 0 ? "none" : parameterTypes[0].getSimpleName();
+        var scope = SqlStatementScope.open(type);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            scope.close();
+            reporter.report(scope, "handler", type);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package pe.civa.matias_aliaga.shared.infrastructure.monitoring.sql;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Accounts for the SQL statements executed while serving each HTTP request.
+ * Requests are named after their method and route pattern, so the metrics keep a bounded cardinality.
+ * Statements executed after the request thread is released, such as those of streamed responses, are not included.
+ */
+public class SqlStatementScopeFilter extends OncePerRequestFilter {
+
+    /** Reporter publishing the accounting of each request */
+    private final SqlStatementReporter reporter;
+
+    /**
+     * Constructor for SqlStatementScopeFilter.
+     * @param reporter The reporter publishing the accounting of each request
+     */
+    public SqlStatementScopeFilter(SqlStatementReporter reporter) {
+        this.reporter = reporter;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        var scope = SqlStatementScope.open(request.getMethod() + " " + request.getRequestURI());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            scope.close();
+            var pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            reporter.report(scope, "request", request.getMethod() + " " + (pattern == null ? "UNKNOWN" : pattern));
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package pe.civa.matias_aliaga.shared.infrastructure.monitoring.sql.configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import pe.civa.matias_aliaga.shared.infrastructure.monitoring.sql.RowCountingResultSetProxyLogic;
+import pe.civa.matias_aliaga.shared.infrastructure.monitoring.sql.SqlStatementListener;
+import pe.civa.matias_aliaga.shared.infrastructure.monitoring.sql.SqlStatementReporter;
+import pe.civa.matias_aliaga.shared.infrastructure.monitoring.sql.SqlStatementScopeAspect;
+import pe.civa.matias_aliaga.shared.infrastructure.monitoring.sql.SqlStatementScopeFilter;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Configuration of the SQL statement accounting.
+ * The data source used by the application is wrapped in a JDBC proxy that records every statement in the
+ * scopes opened per HTTP request and per handler call, and logs a sample of the slow statements, replacing show-sql.
+ * Only statement executions are intercepted by default; counting the rows read also proxies every result set,
+ * which adds a reflective call per column read, so it is enabled with civa.sql.count-rows-read.
+ */
+@Configuration
+@ConditionalOnProperty(name = "civa.sql.accounting.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatementAccountingConfiguration {
+
+    /**
+     * Wraps the data source of the application in the JDBC proxy.
+     * Only the dataSource bean is wrapped: with read replica routing it already routes between the primary and replica pools.
+     * @param slowThreshold Execution time from which a statement is logged as slow
+     * @param slowLogSampleRate Fraction of the slow statements that are logged
+     * @param countRowsRead Whether the rows read from result sets are counted, otherwise only the rows written are
+     * @return The post processor wrapping the data source
+     */
+    @Bean
+    public static BeanPostProcessor sqlStatementAccountingDataSourcePostProcessor(
+            @Value("${civa.sql.slow-threshold:200ms}") Duration slowThreshold,
+            @Value("${civa.sql.slow-log-sample-rate:1.0}") double slowLogSampleRate,
+            @Value("${civa.sql.count-rows-read:false}") boolean countRowsRead) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!"dataSource".equals(beanName) || !(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource)
+                    return bean;
+                var listener = new SqlStatementListener(slowThreshold, slowLogSampleRate);
+                var builder = ProxyDataSourceBuilder.create(beanName, dataSource).listener(listener);
+                if (countRowsRead) builder.proxyResultSet(RowCountingResultSetProxyLogic.FACTORY);
+                return builder.build();
+            }
+        };
+    }
+
+    /**
+     * Reporter publishing the accounting of each scope.
+     * @param meterRegistry The registry where the accounting is published
+     * @param repeatedStatementThreshold Number of executions from which an identical statement is reported as a possible N+1
+     * @return The reporter
+     */
+    @Bean
+    public SqlStatementReporter sqlStatementReporter(MeterRegistry meterRegistry,
+                                                     @Value("${civa.sql.repeated-statement-threshold:5}") int repeatedStatementThreshold) {
+        return new SqlStatementReporter(meterRegistry, repeatedStatementThreshold);
+    }
+
+    /**
+     * Filter opening a scope per HTTP request.
+     * @param reporter The reporter publishing the accounting of each request
+     * @return The filter
+     */
+    @Bean
+    public SqlStatementScopeFilter sqlStatementScopeFilter(SqlStatementReporter reporter) {
+        return new SqlStatementScopeFilter(reporter);
+    }
+
+    /**
+     * Aspect opening a scope per handler call.
+     * @param reporter The reporter publishing the accounting of each call
+     * @return The aspect
+     */
+    @Bean
+    public SqlStatementScopeAspect sqlStatementScopeAspect(SqlStatementReporter reporter) {
+        return new SqlStatementScopeAspect(reporter);
+    }
+}
@@ -0,0 +1,62 @@
+package pe.civa.matias_aliaga.shared.infrastructure.monitoring.startup;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Measures the time to first request: from the start of the JVM until the first response is sent.
+ * It is logged once and published as the civa.startup.first.request gauge, so startup optimisations can be tracked.
+ */
+@Component
+public class FirstRequestTimer extends OncePerRequestFilter {
+    private static final Logger logger = LoggerFactory.getLogger(FirstRequestTimer.class);
+
+    /** Registry where the time to first request is published */
+    private final MeterRegistry meterRegistry;
+
+    /** Whether the first request has already been measured */
+    private final AtomicBoolean measured = new AtomicBoolean();
+
+    /**
+     * Constructor for FirstRequestTimer.
+     * @param meterRegistry The registry where the time to first request is published
+     */
+    public FirstRequestTimer(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (!measured.get() && measured.compareAndSet(false, true)) record(request);
+        }
+    }
+
+    /**
+     * Logs and publishes the time elapsed since the JVM started.
+     * @param request The first request served
+     */
+    private void record(HttpServletRequest request) {
+        var elapsed = ManagementFactory.getRuntimeMXBean().getUptime();
+        logger.info("First request {} {} served {} ms after the JVM started", request.getMethod(), request.getRequestURI(), elapsed);
+        TimeGauge.builder("civa.startup.first.request", () -> elapsed, TimeUnit.MILLISECONDS)
+                .description("Time from the JVM start until the first response was sent")
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,35 @@
+package pe.civa.matias_aliaga.shared.infrastructure.persistence.flyway.configuration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Configuration of the schema migrations.
+ * Migrations run on startup, except in the training run that records the CDS archive of the fast-startup build:
+ * that run exits once the context is refreshed (spring.context.exit) and must not need a database.
+ * The check is made at runtime because the conditions of an AOT-processed application are fixed at build time.
+ */
+@Configuration
+public class FlywayMigrationConfiguration {
+    private static final Logger logger = LoggerFactory.getLogger(FlywayMigrationConfiguration.class);
+
+    /**
+     * Strategy migrating the schema unless the context only starts to record a training run.
+     * @param environment The environment holding the spring.context.exit property
+     * @return The migration strategy
+     */
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(Environment environment) {
+        return flyway -> {
+            if (environment.containsProperty("spring.context.exit")) {
+                logger.info("Skipping schema migrations in a training run");
+                return;
+            }
+            flyway.migrate();
+        };
+    }
+}
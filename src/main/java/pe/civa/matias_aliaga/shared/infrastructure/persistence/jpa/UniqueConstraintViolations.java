@@ -0,0 +1,34 @@
+package pe.civa.matias_aliaga.shared.infrastructure.persistence.jpa;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.sql.SQLException;
+
+/**
+ * Utility class recognising unique constraint violations among data integrity violations.
+ * A unique violation refuses a duplicated request, while not-null, foreign key, check or length violations
+ * reveal a defect, since requests are validated before reaching the database.
+ */
+public class UniqueConstraintViolations {
+
+    /** SQLState reported by PostgreSQL for a unique violation */
+    public static final String UNIQUE_VIOLATION_SQL_STATE = "23505";
+
+    /**
+     * Tells whether an exception was caused by a unique constraint violation.
+     * @param ex The exception to inspect, together with its causes
+     * @return true if the exception or one of its causes reports a unique violation, false otherwise
+     */
+    public static boolean isUniqueViolation(Throwable ex) {
+        for (var cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof DuplicateKeyException)
+                return true;
+            if (cause instanceof ConstraintViolationException violation && violation.getKind() == ConstraintViolationException.ConstraintKind.UNIQUE)
+                return true;
+            if (cause instanceof SQLException sqlException && UNIQUE_VIOLATION_SQL_STATE.equals(sqlException.getSQLState()))
+                return true;
+        }
+        return false;
+    }
+}
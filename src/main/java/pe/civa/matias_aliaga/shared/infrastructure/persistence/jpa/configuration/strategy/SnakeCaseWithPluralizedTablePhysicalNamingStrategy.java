@@ -4,15 +4,29 @@ import org.hibernate.boot.model.naming.Identifier;
 import org.hibernate.boot.model.naming.PhysicalNamingStrategy;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
 import static io.github.encryptorcode.pluralize.Pluralize.pluralize;
 
 /**
  * Custom Hibernate physical naming strategy that converts entity names to snake_case
  * and pluralizes table names automatically.
  * This strategy standardizes database naming conventions across the application.
+ * Hibernate asks for the same names many times while it boots, so converted names are memoised.
  */
 public class SnakeCaseWithPluralizedTablePhysicalNamingStrategy implements PhysicalNamingStrategy {
 
+    /** Boundary between a lowercase and an uppercase letter, where an underscore is inserted */
+    private static final Pattern CAMEL_CASE_BOUNDARY = Pattern.compile("([a-z])([A-Z])");
+
+    /** snake_case names by logical name */
+    private final Map<String, String> snakeCaseNames = new ConcurrentHashMap<>();
+
+    /** Pluralized snake_case table names by logical name */
+    private final Map<String, String> tableNames = new ConcurrentHashMap<>();
+
     /**
      * Converts catalog names to snake_case format.
      * @param identifier The catalog identifier to convert
@@ -44,8 +58,11 @@ public class SnakeCaseWithPluralizedTablePhysicalNamingStrategy implements Physi
      */
     @Override
     public Identifier toPhysicalTableName(Identifier identifier, JdbcEnvironment jdbcEnvironment) {
-
-        return this.toSnakeCase(this.toPlural(identifier));
+        if (identifier == null) {
+            return null;
+        }
+        return Identifier.toIdentifier(this.tableNames.computeIfAbsent(identifier.getText(),
+                text -> this.toSnakeCase(this.toPlural(text))));
     }
 
     /**
@@ -80,22 +97,25 @@ public class SnakeCaseWithPluralizedTablePhysicalNamingStrategy implements Physi
         if (identifier == null) {
             return null;
         }
-        final String regex = "([a-z])([A-Z])";
-        final String replacement = "$1_$2";
-        final String newName = identifier.getText()
-                .replaceAll(regex, replacement)
-                .toLowerCase();
-        return Identifier.toIdentifier(newName);
+        return Identifier.toIdentifier(this.snakeCaseNames.computeIfAbsent(identifier.getText(), this::toSnakeCase));
+    }
+
+    /**
+     * Converts a camelCase name to snake_case format.
+     * @param text The name to convert
+     * @return The name in snake_case format
+     */
+    private String toSnakeCase(final String text) {
+        return CAMEL_CASE_BOUNDARY.matcher(text).replaceAll("$1_$2").toLowerCase();
     }
 
     /**
-     * Converts singular identifiers to their plural form.
+     * Converts a singular name to its plural form.
      * Uses the Pluralize library to handle English pluralization rules.
-     * @param identifier The identifier to pluralize
-     * @return The pluralized identifier
+     * @param text The name to pluralize
+     * @return The pluralized name
      */
-    private Identifier toPlural(final Identifier identifier) {
-        final String newName = pluralize(identifier.getText());
-        return Identifier.toIdentifier(newName);
+    private String toPlural(final String text) {
+        return pluralize(text);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,65 @@
+package pe.civa.matias_aliaga.shared.infrastructure.persistence.referencedata;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Startup stage synchronising the reference data in the background.
+ * <p>
+ * The stage is started once the context is refreshed and runs while the application finishes starting. Work
+ * needing the reference data waits for it with await(). As a health indicator included in the readiness group,
+ * it keeps the instance out of service until the synchronisation has succeeded.
+ */
+@Component
+public class ReferenceDataSynchronization implements HealthIndicator {
+    private static final Logger logger = LoggerFactory.getLogger(ReferenceDataSynchronization.class);
+
+    /** Completion of the synchronisation, replaced when the stage starts */
+    private volatile CompletableFuture<Void> completion = new CompletableFuture<>();
+
+    /**
+     * Starts the synchronisation on a virtual thread.
+     * @param synchronization The synchronisation of every reference data table
+     */
+    public void start(Runnable synchronization) {
+        var started = System.nanoTime();
+        completion = CompletableFuture.runAsync(synchronization, task -> Thread.ofVirtual().name("reference-data-sync").start(task))
+                .whenComplete((ignored, ex) -> {
+                    if (ex != null) logger.error("Reference data synchronisation failed", ex);
+                    else logger.info("Reference data synchronised in {} ms", (System.nanoTime() - started) / 1_000_000);
+                });
+    }
+
+    /**
+     * Waits until the reference data is synchronised.
+     * @throws IllegalStateException if the synchronisation failed
+     */
+    public void await() {
+        try {
+            completion.join();
+        } catch (CompletionException ex) {
+            throw new IllegalStateException("Reference data synchronisation failed", ex.getCause());
+        }
+    }
+
+    /**
+     * Reports whether the reference data is synchronised.
+     * @return UP once synchronised, OUT_OF_SERVICE while synchronising and DOWN if the synchronisation failed
+     */
+    @Override
+    public Health health() {
+        var current = completion;
+        if (!current.isDone()) return Health.outOfService().build();
+        if (current.isCompletedExceptionally()) {
+            var ex = current.exceptionNow();
+            return Health.down(ex instanceof CompletionException ? ex.getCause() : ex).build();
+        }
+        return Health.up().build();
+    }
+}
@@ -0,0 +1,126 @@
+package pe.civa.matias_aliaga.shared.infrastructure.persistence.referencedata;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Synchronises reference data tables with the enums they are backed by.
+ * <p>
+ * The enum constants and the table are compared in a single query; only when constants are missing, they are
+ * inserted with a single INSERT ... ON CONFLICT DO NOTHING. Synchronising an up-to-date table therefore takes one
+ * round trip, and instances starting at the same time never fail nor insert a row twice, provided the column has
+ * a unique constraint. Rows without a matching constant are reported but kept, since other tables may reference them.
+ */
+@Component
+public class ReferenceDataSynchronizer {
+    private static final Logger logger = LoggerFactory.getLogger(ReferenceDataSynchronizer.class);
+
+    /** Table and column names accepted, since they cannot be bound as parameters */
+    private static final Pattern IDENTIFIER = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    /** Template running the statements on the primary database */
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructor for ReferenceDataSynchronizer.
+     * @param jdbcTemplate The template running the statements
+     */
+    @Autowired
+    public ReferenceDataSynchronizer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Inserts the constants of an enum missing from the column of a table, stored by name.
+     * @param table The reference data table
+     * @param column The column holding the constant names, with a unique constraint
+     * @param type The enum backing the table
+     * @param <E> The enum type
+     * @return The number of rows inserted by this call
+     * @throws IllegalArgumentException if the table or column name is not a plain lower-case identifier
+     */
+    public <E extends Enum<E>> int synchronize(String table, String column, Class<E> type) {
+        if (!IDENTIFIER.matcher(table).matches() || !IDENTIFIER.matcher(column).matches())
+            throw new IllegalArgumentException("Invalid reference data table or column: " + table + "." + column);
+        var names = Arrays.stream(type.getEnumConstants()).map(Enum::name).toArray(String[]::new);
+        var inserted = jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+            var values = connection.createArrayOf("varchar", names);
+            try {
+                var missing = new ArrayList<String>();
+                var unknown = new ArrayList<String>();
+                diff(connection, table, column, values, missing, unknown);
+                if (!unknown.isEmpty())
+                    logger.warn("Rows of {} without a matching {} constant: {}", table, type.getSimpleName(), unknown);
+                return missing.isEmpty() ? 0 : insert(connection, table, column, connection.createArrayOf("varchar", missing.toArray()));
+            } finally {
+                values.free();
+            }
+        });
+        logger.info("Reference data table {} synchronised with {}: {} rows inserted", table, type.getSimpleName(), inserted);
+        return inserted == null ? 0 : inserted;
+    }
+
+    /**
+     * Compares the constants with the rows of the table in one query.
+     * @param connection The connection to the primary database
+     * @param table The reference data table
+     * @param column The column holding the constant names
+     * @param values The constant names
+     * @param missing Receives the constants without a row, in declaration order
+     * @param unknown Receives the rows without a constant
+     * @throws SQLException if the query fails
+     */
+    private static void diff(Connection connection, String table, String column, Array values,
+                             List<String> missing, List<String> unknown) throws SQLException {
+        var sql = """
+                select e.value, t.%2$s
+                from unnest(?::varchar[]) with ordinality as e(value, position)
+                full join %1$s t on t.%2$s = e.value
+                where e.value is null or t.%2$s is null
+                order by e.position""".formatted(table, column);
+        try (var statement = connection.prepareStatement(sql)) {
+            statement.setArray(1, values);
+            try (var rows = statement.executeQuery()) {
+                while (rows.next()) {
+                    var constant = rows.getString(1);
+                    if (constant != null) missing.add(constant);
+                    else unknown.add(rows.getString(2));
+                }
+            }
+        }
+    }
+
+    /**
+     * Inserts the missing constants, skipping those inserted meanwhile by another instance.
+     * @param connection The connection to the primary database
+     * @param table The reference data table
+     * @param column The column holding the constant names
+     * @param missing The constant names to insert
+     * @return The number of rows inserted
+     * @throws SQLException if the statement fails
+     */
+    private static int insert(Connection connection, String table, String column, Array missing) throws SQLException {
+        var sql = """
+                insert into %1$s (%2$s)
+                select value from unnest(?::varchar[]) with ordinality as m(value, position) order by position
+                on conflict (%2$s) do nothing""".formatted(table, column);
+        try (var statement = connection.prepareStatement(sql)) {
+            statement.setArray(1, missing);
+            return statement.executeUpdate();
+        } finally {
+            missing.free();
+        }
+    }
+}
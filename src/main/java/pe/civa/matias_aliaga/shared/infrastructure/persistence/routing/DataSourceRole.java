@@ -0,0 +1,11 @@
+package pe.civa.matias_aliaga.shared.infrastructure.persistence.routing;
+
+/**
+ * Roles of the databases a connection can be routed to.
+ */
+public enum DataSourceRole {
+    /** Database accepting writes, always up to date */
+    PRIMARY,
+    /** Read-only copy of the primary database, possibly lagging behind it */
+    REPLICA
+}
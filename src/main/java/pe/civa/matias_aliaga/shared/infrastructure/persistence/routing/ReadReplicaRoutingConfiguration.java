@@ -0,0 +1,105 @@
+package pe.civa.matias_aliaga.shared.infrastructure.persistence.routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import javax.sql.DataSource;
+
+/**
+ * Configuration routing read-only transactions to a replica of the database, enabled by civa.datasource.replica.enabled.
+ * The primary pool keeps the spring.datasource settings, the replica pool is configured under civa.datasource.replica.
+ * Without it the application uses the single auto-configured data source.
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+@ConditionalOnProperty(name = "civa.datasource.replica.enabled", havingValue = "true")
+public class ReadReplicaRoutingConfiguration {
+
+    /**
+     * Connection pool of the primary database.
+     * @param properties The spring.datasource properties
+     * @return The pool of the primary database
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * Connection pool of the replica.
+     * @param properties The replica properties
+     * @return The pool of the replica
+     */
+    @Bean
+    @ConfigurationProperties("civa.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(ReplicaDataSourceProperties properties) {
+        return DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(properties.url())
+                .username(properties.username())
+                .password(properties.password())
+                .build();
+    }
+
+    /**
+     * Monitor of the replica health, checked on the civa.datasource.replica.health-check-interval schedule.
+     * @param replica The pool of the replica
+     * @param properties The replica properties
+     * @return The monitor of the replica
+     */
+    @Bean
+    public ReplicaHealthMonitor replicaHealthMonitor(@Qualifier("replicaDataSource") DataSource replica,
+                                                     ReplicaDataSourceProperties properties) {
+        return new ReplicaHealthMonitor(replica, properties.maxLag());
+    }
+
+    /**
+     * Data source used by JPA and every other database client.
+     * Connections are taken lazily so the routing sees whether the transaction is read-only.
+     * @param primary The pool of the primary database
+     * @param replica The pool of the replica
+     * @param replicaHealthMonitor The monitor of the replica
+     * @return The routing data source
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica,
+                                 ReplicaHealthMonitor replicaHealthMonitor) {
+        var routing = new ReadWriteRoutingDataSource(primary, replica, replicaHealthMonitor);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    /**
+     * Filter keeping clients on the primary right after they wrote data.
+     * @param properties The replica properties
+     * @return The read-your-writes filter
+     */
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(ReplicaDataSourceProperties properties) {
+        return new ReadYourWritesFilter(properties.maxLag());
+    }
+
+    /**
+     * Carries the read-your-writes pin over to the threads writing streamed responses.
+     * @return The task decorator used by the application task executor
+     */
+    @Bean
+    public TaskDecorator readYourWritesTaskDecorator() {
+        return ReadYourWritesContext::propagate;
+    }
+}
@@ -0,0 +1,41 @@
+package pe.civa.matias_aliaga.shared.infrastructure.persistence.routing;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Data source sending read-only transactions to the replica and everything else to the primary.
+ * Reads stay on the primary when the replica is unhealthy or lagging, and for clients that just wrote data.
+ * Must be wrapped in a LazyConnectionDataSourceProxy, so the connection is only taken once the
+ * transaction, and therefore its read-only flag, has been set up.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    /** Monitor telling whether the replica can currently serve reads */
+    private final ReplicaHealthMonitor replicaHealthMonitor;
+
+    /**
+     * Constructor for ReadWriteRoutingDataSource.
+     * @param primary The data source of the primary database
+     * @param replica The data source of the replica
+     * @param replicaHealthMonitor The monitor of the replica health
+     */
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, ReplicaHealthMonitor replicaHealthMonitor) {
+        this.replicaHealthMonitor = replicaHealthMonitor;
+        setTargetDataSources(Map.of(DataSourceRole.PRIMARY, primary, DataSourceRole.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && !ReadYourWritesContext.isPinnedToPrimary()
+                && replicaHealthMonitor.isReplicaAvailable()) {
+            return DataSourceRole.REPLICA;
+        }
+        return DataSourceRole.PRIMARY;
+    }
+}
@@ -0,0 +1,48 @@
+package pe.civa.matias_aliaga.shared.infrastructure.persistence.routing;
+
+/**
+ * Holds whether the work done by the current thread must read from the primary database,
+ * because the client recently wrote data the replica may not have received yet.
+ */
+public final class ReadYourWritesContext {
+
+    private static final ThreadLocal<Boolean> PINNED_TO_PRIMARY = new ThreadLocal<>();
+
+    private ReadYourWritesContext() {
+    }
+
+    /**
+     * Indicates whether the current thread must read from the primary database.
+     * @return true if reads must go to the primary, false otherwise
+     */
+    public static boolean isPinnedToPrimary() {
+        return Boolean.TRUE.equals(PINNED_TO_PRIMARY.get());
+    }
+
+    /**
+     * Sets whether the current thread must read from the primary database.
+     * @param pinned true to send reads to the primary, false to let them go to the replica
+     */
+    public static void setPinnedToPrimary(boolean pinned) {
+        if (pinned) PINNED_TO_PRIMARY.set(Boolean.TRUE);
+        else PINNED_TO_PRIMARY.remove();
+    }
+
+    /**
+     * Wraps a task so that it runs with the pin of the thread creating it, e.g. when a response is streamed on another thread.
+     * @param task The task to wrap
+     * @return The task running with the current pin
+     */
+    public static Runnable propagate(Runnable task) {
+        var pinned = isPinnedToPrimary();
+        return () -> {
+            var previous = isPinnedToPrimary();
+            setPinnedToPrimary(pinned);
+            try {
+                task.run();
+            } finally {
+                setPinnedToPrimary(previous);
+            }
+        };
+    }
+}
@@ -0,0 +1,87 @@
+package pe.civa.matias_aliaga.shared.infrastructure.persistence.routing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Keeps the reads of a client on the primary database for a while after it wrote data,
+ * so that it sees its own writes even if the replica did not receive them yet.
+ * Writing requests hand out a cookie holding the instant until which the client reads from the primary.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    /** Name of the cookie holding the instant, in epoch milliseconds, until which the client reads from the primary */
+    public static final String COOKIE_NAME = "civa-primary-until";
+
+    /** Methods that never write data */
+    private static final Set<String> SAFE_METHODS = Set.of(
+            HttpMethod.GET.name(), HttpMethod.HEAD.name(), HttpMethod.OPTIONS.name(), HttpMethod.TRACE.name());
+
+    /** How long a client reads from the primary after writing */
+    private final Duration pinDuration;
+
+    /**
+     * Constructor for ReadYourWritesFilter.
+     * @param pinDuration How long a client reads from the primary after writing, at least the tolerated replica lag
+     */
+    public ReadYourWritesFilter(Duration pinDuration) {
+        this.pinDuration = pinDuration;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        var now = System.currentTimeMillis();
+        var writing = !SAFE_METHODS.contains(request.getMethod());
+        if (writing) {
+            var cookie = ResponseCookie.from(COOKIE_NAME, Long.toString(now + pinDuration.toMillis()))
+                    .path("/")
+                    .maxAge(pinDuration)
+                    .httpOnly(true)
+                    .sameSite("Lax")
+                    .build();
+            response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+        }
+        ReadYourWritesContext.setPinnedToPrimary(writing || pinnedUntil(request) > now);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWritesContext.setPinnedToPrimary(false);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    /**
+     * Reads the instant until which the client reads from the primary.
+     * @param request The HTTP request
+     * @return The instant in epoch milliseconds, or zero if the client holds no valid cookie
+     */
+    private static long pinnedUntil(HttpServletRequest request) {
+        var cookies = request.getCookies();
+        if (cookies == null) return 0;
+        for (Cookie cookie : cookies) {
+            if (!COOKIE_NAME.equals(cookie.getName())) continue;
+            try {
+                return Long.parseLong(cookie.getValue());
+            } catch (NumberFormatException ex) {
+                return 0;
+            }
+        }
+        return 0;
+    }
+}
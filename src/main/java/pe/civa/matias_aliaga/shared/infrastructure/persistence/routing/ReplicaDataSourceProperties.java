@@ -0,0 +1,27 @@
+package pe.civa.matias_aliaga.shared.infrastructure.persistence.routing;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Connection settings of the read replica, bound from the civa.datasource.replica properties.
+ * Pool settings are bound separately from civa.datasource.replica.hikari.
+ *
+ * @param enabled Whether read-only transactions are routed to the replica
+ * @param url JDBC URL of the replica
+ * @param username User used to connect to the replica
+ * @param password Password used to connect to the replica
+ * @param maxLag Maximum replication lag tolerated before reads fall back to the primary,
+ *               also how long a client keeps reading from the primary after a write
+ */
+@ConfigurationProperties("civa.datasource.replica")
+public record ReplicaDataSourceProperties(
+        boolean enabled,
+        String url,
+        String username,
+        String password,
+        @DefaultValue("5s") Duration maxLag
+) {
+}
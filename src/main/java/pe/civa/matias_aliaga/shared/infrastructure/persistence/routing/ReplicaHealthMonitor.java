@@ -0,0 +1,75 @@
+package pe.civa.matias_aliaga.shared.infrastructure.persistence.routing;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Periodically checks that the replica is reachable and close enough to the primary to serve reads.
+ * Until a check succeeds, or while the replica is down or lagging, reads fall back to the primary.
+ */
+public class ReplicaHealthMonitor {
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaHealthMonitor.class);
+
+    /**
+     * Replication lag in seconds: zero when the replica replayed everything it received,
+     * otherwise the age of the last replayed transaction. Null if nothing was replayed yet.
+     */
+    private static final String LAG_QUERY = """
+            select case
+                when not pg_is_in_recovery() or pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0
+                else extract(epoch from now() - pg_last_xact_replay_timestamp())
+            end""";
+
+    /** Data source of the replica */
+    private final DataSource replica;
+
+    /** Maximum replication lag tolerated */
+    private final Duration maxLag;
+
+    /** Result of the last check */
+    private volatile boolean replicaAvailable;
+
+    /**
+     * Constructor for ReplicaHealthMonitor.
+     * @param replica The data source of the replica
+     * @param maxLag The maximum replication lag tolerated
+     */
+    public ReplicaHealthMonitor(DataSource replica, Duration maxLag) {
+        this.replica = replica;
+        this.maxLag = maxLag;
+    }
+
+    /**
+     * Indicates whether the replica passed its last check.
+     * @return true if reads can be routed to the replica, false otherwise
+     */
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    /**
+     * Checks the replica and updates its availability.
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${civa.datasource.replica.health-check-interval:5s}")
+    public void check() {
+        var available = false;
+        try (var connection = replica.getConnection();
+             var statement = connection.createStatement();
+             var resultSet = statement.executeQuery(LAG_QUERY)) {
+            resultSet.next();
+            var lagSeconds = resultSet.getBigDecimal(1);
+            available = lagSeconds != null && lagSeconds.doubleValue() * 1000 <= maxLag.toMillis();
+            if (!available && replicaAvailable)
+                logger.warn("Replica lag of {}s exceeds {}, reading from the primary", lagSeconds, maxLag);
+        } catch (SQLException ex) {
+            if (replicaAvailable) logger.warn("Replica unreachable, reading from the primary: {}", ex.getMessage());
+        }
+        if (available && !replicaAvailable) logger.info("Replica available, routing read-only transactions to it");
+        replicaAvailable = available;
+    }
+}
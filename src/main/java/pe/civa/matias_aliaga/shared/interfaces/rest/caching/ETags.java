@@ -0,0 +1,46 @@
+package pe.civa.matias_aliaga.shared.interfaces.rest.caching;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+/**
+ * Utility class for building weak entity tags from resource versions,
+ * so conditional requests can be answered without loading or serialising the resource.
+ * Tags are weak because responses may be gzip-compressed by the server: the compressed and
+ * identity bodies are equivalent but not byte-identical, so they cannot share a strong tag.
+ * If-None-Match is compared weakly, so weak tags still produce 304 responses.
+ */
+public class ETags {
+
+    /**
+     * Builds the entity tag of a single resource.
+     * @param id The identifier of the resource
+     * @param version The timestamp of the last update of the resource
+     * @param variant The representation of the resource, e.g. its media type
+     * @return The weak entity tag
+     */
+    public static String forVersion(Object id, Date version, String variant) {
+        return weak(id + "-" + version.getTime() + "-" + Integer.toHexString(variant.hashCode()));
+    }
+
+    /**
+     * Builds the entity tag of a collection of resources.
+     * The request that selected the collection is part of the tag, since two pages or two filters
+     * over the same data have different representations.
+     * @param lastId The greatest identifier in the collection, or null if it is empty
+     * @param lastUpdatedAt The latest update timestamp of the collection, or null if it is empty
+     * @param count The number of resources in the collection
+     * @param request A canonical description of the request selecting the collection and its representation
+     * @return The weak entity tag
+     */
+    public static String forCollection(Long lastId, Date lastUpdatedAt, long count, String request) {
+        var version = lastId + ":" + (lastUpdatedAt == null ? 0 : lastUpdatedAt.getTime()) + ":" + count + ":" + request;
+        return weak(DigestUtils.md5DigestAsHex(version.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String weak(String value) {
+        return "W/\"" + value + "\"";
+    }
+}
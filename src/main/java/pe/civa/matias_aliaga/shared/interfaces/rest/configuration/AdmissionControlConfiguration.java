@@ -0,0 +1,40 @@
+package pe.civa.matias_aliaga.shared.interfaces.rest.configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import pe.civa.matias_aliaga.shared.interfaces.rest.throttling.AdmissionControlInterceptor;
+import pe.civa.matias_aliaga.shared.interfaces.rest.throttling.AdmissionControlProperties;
+
+/**
+ * Configuration of the admission control applied to the REST API.
+ * Only the API is limited, so health checks, metrics and the documentation stay reachable under load.
+ */
+@Configuration
+@EnableConfigurationProperties(AdmissionControlProperties.class)
+public class AdmissionControlConfiguration implements WebMvcConfigurer {
+
+    /** Admission control settings */
+    private final AdmissionControlProperties properties;
+
+    /** Registry where the rejections are published */
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Constructor for AdmissionControlConfiguration.
+     * @param properties The admission control settings
+     * @param meterRegistry The registry where the rejections are published
+     */
+    public AdmissionControlConfiguration(AdmissionControlProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (!properties.enabled()) return;
+        registry.addInterceptor(new AdmissionControlInterceptor(properties, meterRegistry)).addPathPatterns("/api/**");
+    }
+}
@@ -0,0 +1,38 @@
+package pe.civa.matias_aliaga.shared.interfaces.rest.configuration;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Configuration of the binary message converters used for content negotiation.
+ * The converters share the Jackson settings of the JSON converter, so a resource has
+ * the same fields and formats whichever encoding the client asks for through Accept.
+ */
+@Configuration
+public class BinaryMessageConvertersConfiguration {
+
+    /**
+     * Creates the converter reading and writing application/cbor payloads.
+     * @param builder The object mapper builder configured by Spring Boot
+     * @return The CBOR message converter
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.createXmlMapper(false).factory(new CBORFactory()).build());
+    }
+
+    /**
+     * Creates the converter reading and writing application/x-jackson-smile payloads.
+     * @param builder The object mapper builder configured by Spring Boot
+     * @return The Smile message converter
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.createXmlMapper(false).factory(new SmileFactory()).build());
+    }
+}
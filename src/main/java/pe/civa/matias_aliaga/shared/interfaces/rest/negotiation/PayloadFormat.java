@@ -0,0 +1,61 @@
+package pe.civa.matias_aliaga.shared.interfaces.rest.negotiation;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+
+/**
+ * Encodings the API can use for its payloads.
+ * Binary encodings carry the same data model as JSON, so every resource can be sent in any of them.
+ */
+public enum PayloadFormat {
+    JSON(MediaType.APPLICATION_JSON),
+    NDJSON(MediaType.APPLICATION_NDJSON),
+    CBOR(MediaType.APPLICATION_CBOR),
+    SMILE(MediaType.valueOf(PayloadFormat.APPLICATION_SMILE_VALUE));
+
+    /** Media type of the Smile binary JSON encoding */
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
+    /** Media type sent in the Content-Type header for this format */
+    private final MediaType mediaType;
+
+    PayloadFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    /**
+     * Gets the media type of this format.
+     * @return The media type sent in the Content-Type header
+     */
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Selects the format to answer with from the Accept header of a request.
+     * Accepted media types are tried by decreasing quality and, for the same quality, in the order sent by the client.
+     * @param accept The Accept header, or null if the client did not send one
+     * @param supported The formats the endpoint can produce, the first one is used when the client accepts anything
+     * @return The negotiated format
+     */
+    public static PayloadFormat negotiate(String accept, PayloadFormat... supported) {
+        if (accept == null || accept.isBlank()) return supported[0];
+        ArrayList<MediaType> acceptedTypes;
+        try {
+            acceptedTypes = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        } catch (InvalidMediaTypeException ex) {
+            return supported[0];
+        }
+        acceptedTypes.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (var acceptedType : acceptedTypes) {
+            if (acceptedType.getQualityValue() == 0) continue;
+            for (var format : supported) {
+                if (acceptedType.includes(format.mediaType)) return format;
+            }
+        }
+        return supported[0];
+    }
+}
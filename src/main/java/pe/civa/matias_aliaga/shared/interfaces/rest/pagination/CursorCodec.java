@@ -0,0 +1,41 @@
+package pe.civa.matias_aliaga.shared.interfaces.rest.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Utility class for encoding and decoding opaque pagination cursors.
+ * A cursor wraps the identifier of the last element of a window so that clients
+ * can request the next window without relying on offsets.
+ */
+public class CursorCodec {
+
+    /** Prefix used to version the cursor payload */
+    private static final String PREFIX = "id:";
+
+    /**
+     * Encodes an identifier into an opaque, URL-safe cursor.
+     * @param id The identifier of the last element returned
+     * @return The opaque cursor
+     */
+    public static String encode(Long id) {
+        var payload = PREFIX + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Decodes an opaque cursor back into the identifier it wraps.
+     * @param cursor The opaque cursor received from the client
+     * @return The identifier wrapped by the cursor
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static Long decode(String cursor) {
+        try {
+            var payload = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            if (!payload.startsWith(PREFIX)) throw new IllegalArgumentException("Invalid cursor");
+            return Long.parseLong(payload.substring(PREFIX.length()));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,321 @@
+package pe.civa.matias_aliaga.shared.interfaces.rest.streaming;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Broadcasts server-sent events to any number of subscribers.
+ * <p>
+ * Subscribers hold no request thread: each one is an asynchronous SseEmitter with a bounded queue of pending events,
+ * drained by a virtual thread only while it has something to send, so a slow client blocks nothing but its own sender.
+ * A subscriber whose queue overflows is evicted and has to reconnect.
+ * <p>
+ * The last events are kept in a ring buffer, so a client reconnecting with the Last-Event-ID header receives the
+ * events it missed. Events and their IDs are scoped to this broadcaster instance: each application instance only
+ * streams the events published by itself, and a client reconnecting to another instance, or to the same one after
+ * a restart, receives a reset event, as it does when the requested event is unknown or too old, and should reload
+ * the data it shows.
+ */
+public class ServerSentEventBroadcaster implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(ServerSentEventBroadcaster.class);
+
+    /** Name of the event telling a client that events were lost and its data must be reloaded */
+    public static final String RESET_EVENT = "reset";
+
+    /** Marker queued to send a heartbeat comment */
+    private static final Object HEARTBEAT = new Object();
+
+    /** Prefix of the event IDs, distinct for every run so IDs from a previous run are detected */
+    private final String instanceId = Long.toString(System.currentTimeMillis(), 36) + ":";
+
+    /** Last published events, indexed by sequence modulo its length */
+    private final Event[] history;
+
+    /** Maximum number of events pending to be sent to a subscriber */
+    private final int bufferSize;
+
+    /** Time after which a subscription ends and the client has to reconnect */
+    private final Duration timeout;
+
+    /** Guards the sequence, the history and the subscriber list, so subscribing and publishing never interleave */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /** Taken by a publisher before it releases the lock, so events are queued in sequence order without holding it */
+    private final ReentrantLock fanOut = new ReentrantLock();
+
+    /** Sequence of the last published event, zero if none */
+    private long lastSequence;
+
+    /** Current subscribers */
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    /** Number of subscribers evicted because they did not keep up */
+    private final AtomicLong evictions = new AtomicLong();
+
+    /** Threads draining the subscriber queues */
+    private final ExecutorService senders;
+
+    /** Thread queuing the heartbeats */
+    private final ScheduledExecutorService heartbeats = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("sse-heartbeat").daemon().factory());
+
+    /**
+     * Constructor for ServerSentEventBroadcaster.
+     * @param historySize Number of events kept for clients reconnecting with Last-Event-ID
+     * @param bufferSize Maximum number of events pending to be sent to a subscriber before it is evicted
+     * @param heartbeatInterval Interval between the comments sent to idle subscribers to detect closed connections
+     * @param timeout Time after which a subscription ends and the client has to reconnect
+     */
+    public ServerSentEventBroadcaster(int historySize, int bufferSize, Duration heartbeatInterval, Duration timeout) {
+        this(historySize, bufferSize, heartbeatInterval, timeout, Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    /**
+     * Constructor for ServerSentEventBroadcaster with the executor draining the subscriber queues.
+     * @param historySize Number of events kept for clients reconnecting with Last-Event-ID
+     * @param bufferSize Maximum number of events pending to be sent to a subscriber before it is evicted
+     * @param heartbeatInterval Interval between the comments sent to idle subscribers to detect closed connections
+     * @param timeout Time after which a subscription ends and the client has to reconnect
+     * @param senders Executor running the threads draining the subscriber queues
+     */
+    ServerSentEventBroadcaster(int historySize, int bufferSize, Duration heartbeatInterval, Duration timeout, ExecutorService senders) {
+        this.senders = senders;
+        if (historySize < 1 || bufferSize < 1) throw new IllegalArgumentException("History and buffer sizes must be positive");
+        this.history = new Event[historySize];
+        this.bufferSize = bufferSize;
+        this.timeout = timeout;
+        var interval = heartbeatInterval.toMillis();
+        heartbeats.scheduleWithFixedDelay(this::heartbeat, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Subscribes a client to the events published from now on.
+     * @param lastEventId The Last-Event-ID sent by a reconnecting client, or null for a new client
+     * @return The emitter to return from the controller
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        var subscriber = new Subscriber(new SseEmitter(timeout.toMillis()), new ArrayBlockingQueue<>(bufferSize));
+        subscriber.emitter.onCompletion(() -> subscribers.remove(subscriber));
+        subscriber.emitter.onTimeout(() -> subscribers.remove(subscriber));
+        subscriber.emitter.onError(ex -> subscribers.remove(subscriber));
+
+        lock.lock();
+        try {
+            if (lastEventId != null) {
+                var missed = missedSince(lastEventId);
+                if (missed == null || missed.size() > bufferSize - 1) subscriber.queue.add(new Reset(lastSequence));
+                else subscriber.queue.addAll(missed);
+            }
+            subscribers.add(subscriber);
+        } finally {
+            lock.unlock();
+        }
+        if (!subscriber.queue.isEmpty()) schedule(subscriber);
+        return subscriber.emitter;
+    }
+
+    /**
+     * Publishes an event to every subscriber.
+     * The event is recorded and the subscribers are listed under the lock, so a client subscribing concurrently
+     * receives it exactly once, either replayed or queued; it is then queued to each subscriber outside the lock.
+     * @param name The event name
+     * @param data The event data, already serialised as JSON
+     */
+    public void publish(String name, String data) {
+        Event event;
+        Subscriber[] recipients;
+        lock.lock();
+        try {
+            event = new Event(++lastSequence, name, data);
+            history[(int) (event.sequence % history.length)] = event;
+            recipients = subscribers.toArray(Subscriber[]::new);
+            fanOut.lock();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            for (var subscriber : recipients) offer(subscriber, event);
+        } finally {
+            fanOut.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of current subscribers.
+     * @return The number of subscribers
+     */
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * Gets the number of subscribers evicted because they did not keep up with the events.
+     * @return The number of evictions since startup
+     */
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+
+    /**
+     * Ends every subscription and stops the threads of the broadcaster.
+     */
+    @Override
+    public void close() {
+        heartbeats.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+        senders.shutdown();
+    }
+
+    /**
+     * Finds the events published after the given event.
+     * Must be called while holding the lock.
+     * @param lastEventId The ID of the last event received by the client
+     * @return The missed events in order, or null if they are no longer known
+     */
+    private List<Event> missedSince(String lastEventId) {
+        if (!lastEventId.startsWith(instanceId)) return null;
+        long lastSeen;
+        try {
+            lastSeen = Long.parseLong(lastEventId.substring(instanceId.length()));
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+        if (lastSeen < 0 || lastSeen > lastSequence || lastSequence - lastSeen > history.length) return null;
+        var missed = new ArrayList<Event>((int) (lastSequence - lastSeen));
+        for (long sequence = lastSeen + 1; sequence <= lastSequence; sequence++)
+            missed.add(history[(int) (sequence % history.length)]);
+        return missed;
+    }
+
+    /**
+     * Queues an event for a subscriber, evicting it if its queue is full.
+     * @param subscriber The subscriber
+     * @param event The event or marker to queue
+     */
+    private void offer(Subscriber subscriber, Object event) {
+        if (subscriber.queue.offer(event)) {
+            schedule(subscriber);
+        } else if (subscribers.remove(subscriber)) {
+            evictions.incrementAndGet();
+            logger.debug("Evicting server-sent event subscriber with {} pending events", subscriber.queue.size());
+            subscriber.queue.clear();
+            subscriber.emitter.complete();
+        }
+    }
+
+    /**
+     * Queues a heartbeat for the idle subscribers.
+     */
+    private void heartbeat() {
+        for (var subscriber : subscribers) {
+            if (subscriber.queue.isEmpty()) offer(subscriber, HEARTBEAT);
+        }
+    }
+
+    /**
+     * Starts draining the queue of a subscriber unless it is already being drained.
+     * @param subscriber The subscriber
+     */
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            try {
+                senders.execute(() -> drain(subscriber));
+            } catch (RuntimeException ex) {
+                subscriber.draining.set(false);
+            }
+        }
+    }
+
+    /**
+     * Sends the pending events of a subscriber until its queue is empty.
+     * @param subscriber The subscriber
+     */
+    private void drain(Subscriber subscriber) {
+        do {
+            try {
+                Object next;
+                while ((next = subscriber.queue.poll()) != null) send(subscriber.emitter, next);
+            } catch (IOException | IllegalStateException ex) {
+                subscribers.remove(subscriber);
+                subscriber.queue.clear();
+                return;
+            } finally {
+                subscriber.draining.set(false);
+            }
+        } while (!subscriber.queue.isEmpty() && subscriber.draining.compareAndSet(false, true));
+    }
+
+    /**
+     * Writes an event, a heartbeat or a reset to a subscriber.
+     * @param emitter The emitter of the subscriber
+     * @param next The event or marker to send
+     * @throws IOException if the client connection is closed
+     */
+    private void send(SseEmitter emitter, Object next) throws IOException {
+        if (next == HEARTBEAT) {
+            emitter.send(SseEmitter.event().comment("heartbeat"));
+        } else if (next instanceof Reset reset) {
+            emitter.send(SseEmitter.event().id(instanceId + reset.sequence).name(RESET_EVENT).data("{}", MediaType.APPLICATION_JSON));
+        } else {
+            var event = (Event) next;
+            emitter.send(SseEmitter.event().id(instanceId + event.sequence).name(event.name).data(event.data, MediaType.APPLICATION_JSON));
+        }
+    }
+
+    /**
+     * Published event.
+     * @param sequence Position of the event since startup, starting at one
+     * @param name The event name
+     * @param data The event data serialised as JSON
+     */
+    private record Event(long sequence, String name, String data) {
+    }
+
+    /**
+     * Reset sent instead of the events a reconnecting client missed, when they are no longer known.
+     * @param sequence Sequence of the last event published before the client subscribed, from which it resumes
+     */
+    private record Reset(long sequence) {
+    }
+
+    /**
+     * Client subscribed to the events.
+     * @param emitter The emitter writing to the client
+     * @param queue The events pending to be sent
+     * @param draining Whether a sender is currently draining the queue
+     */
+    private record Subscriber(SseEmitter emitter, BlockingQueue<Object> queue, AtomicBoolean draining) {
+        Subscriber(SseEmitter emitter, BlockingQueue<Object> queue) {
+            this(emitter, queue, new AtomicBoolean());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package pe.civa.matias_aliaga.shared.interfaces.rest.throttling;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Admission control in front of the REST controllers.
+ * <p>
+ * Every request first takes a token from the rate limiter of its client, then a permit of its endpoint class,
+ * so a client flooding one kind of endpoint can neither exhaust the connection pool nor delay the other clients.
+ * Rejections never wait: the request fails at once with a TooManyRequestsException telling when to retry.
+ * The permit is held until the response is complete, including the asynchronous part of streamed responses,
+ * and released when the request completes.
+ */
+public class AdmissionControlInterceptor implements AsyncHandlerInterceptor {
+
+    /** Request attribute holding the permit taken by the request */
+    private static final String PERMIT_ATTRIBUTE = AdmissionControlInterceptor.class.getName() + ".permit";
+
+    /** Rate limiter of the clients */
+    private final ClientRateLimiter rateLimiter;
+
+    /** Resolver of the key of the client of each request */
+    private final ClientKeyResolver clientKeyResolver;
+
+    /** Permits of the limited endpoint classes */
+    private final Map<EndpointClass, Semaphore> permits = new EnumMap<>(EndpointClass.class);
+
+    /** Retry delay suggested to requests rejected because their endpoint class is saturated */
+    private final Duration concurrencyRetryAfter;
+
+    /** Requests rejected by the rate limiter, per endpoint class */
+    private final Map<EndpointClass, Counter> rateLimited = new EnumMap<>(EndpointClass.class);
+
+    /** Requests rejected by the concurrency limits, per endpoint class */
+    private final Map<EndpointClass, Counter> concurrencyLimited = new EnumMap<>(EndpointClass.class);
+
+    /**
+     * Constructor for AdmissionControlInterceptor.
+     * @param properties The admission control settings
+     * @param meterRegistry The registry where the rejections and requests in flight are published
+     */
+    public AdmissionControlInterceptor(AdmissionControlProperties properties, MeterRegistry meterRegistry) {
+        var rateLimit = properties.rateLimit();
+        this.rateLimiter = new ClientRateLimiter(rateLimit.requestsPerSecond(), rateLimit.burst(), rateLimit.maxClients());
+        this.clientKeyResolver = new ClientKeyResolver(properties.clientKey().source(), properties.clientKey().apiKeyHeader());
+        this.concurrencyRetryAfter = properties.concurrencyRetryAfter();
+        var concurrency = properties.concurrency() == null ? Map.<EndpointClass, Integer>of() : properties.concurrency();
+        for (var endpointClass : EndpointClass.values()) {
+            var tag = endpointClass.name().toLowerCase(Locale.ROOT);
+            rateLimited.put(endpointClass, rejections(meterRegistry, tag, "rate"));
+            concurrencyLimited.put(endpointClass, rejections(meterRegistry, tag, "concurrency"));
+            var limit = concurrency.get(endpointClass);
+            if (limit == null) continue;
+            var semaphore = new Semaphore(limit);
+            permits.put(endpointClass, semaphore);
+            Gauge.builder("civa.admission.in.flight", semaphore, s -> limit - s.availablePermits())
+                    .description("Requests of the endpoint class currently running")
+                    .tag("class", tag)
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod method)) return true;
+        if (request.getAttribute(PERMIT_ATTRIBUTE) != null || request.getDispatcherType() != DispatcherType.REQUEST)
+            return true;
+        var endpointClass = classify(method, request);
+
+        var wait = rateLimiter.tryAcquire(clientKeyResolver.resolve(request));
+        if (wait > 0) {
+            rateLimited.get(endpointClass).increment();
+            throw new TooManyRequestsException("Rate limit exceeded, slow down", Duration.ofNanos(wait));
+        }
+
+        var semaphore = permits.get(endpointClass);
+        if (semaphore == null) return true;
+        if (!semaphore.tryAcquire()) {
+            concurrencyLimited.get(endpointClass).increment();
+            throw new TooManyRequestsException("Too many concurrent requests of this kind, try again later", concurrencyRetryAfter);
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, semaphore);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof Semaphore semaphore) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            semaphore.release();
+        }
+    }
+
+    /**
+     * Gets the endpoint class of a request, declared with Throttled or implied by its HTTP method.
+     * @param method The handler method
+     * @param request The request
+     * @return The endpoint class
+     */
+    private static EndpointClass classify(HandlerMethod method, HttpServletRequest request) {
+        var throttled = method.getMethodAnnotation(Throttled.class);
+        if (throttled != null) return throttled.value();
+        var httpMethod = HttpMethod.valueOf(request.getMethod());
+        return HttpMethod.GET.equals(httpMethod) || HttpMethod.HEAD.equals(httpMethod) || HttpMethod.OPTIONS.equals(httpMethod)
+                ? EndpointClass.READ : EndpointClass.WRITE;
+    }
+
+    /**
+     * Registers the counter of the requests of an endpoint class rejected for a reason.
+     * @param meterRegistry The registry
+     * @param endpointClass The endpoint class tag
+     * @param reason The reason tag, rate or concurrency
+     * @return The counter
+     */
+    private static Counter rejections(MeterRegistry meterRegistry, String endpointClass, String reason) {
+        return Counter.builder("civa.admission.rejections")
+                .description("Requests rejected by the admission control")
+                .tag("class", endpointClass)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,51 @@
+package pe.civa.matias_aliaga.shared.interfaces.rest.throttling;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Admission control settings, bound from the civa.admission properties.
+ *
+ * @param enabled Whether requests are rate limited and their concurrency limited
+ * @param rateLimit Rate limit applied to every client
+ * @param clientKey How the client of a request is identified by the rate limiter
+ * @param concurrency Maximum number of concurrent requests per endpoint class; classes without a limit are not limited
+ * @param concurrencyRetryAfter Retry delay suggested to requests rejected because their endpoint class is saturated
+ */
+@ConfigurationProperties("civa.admission")
+public record AdmissionControlProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue RateLimit rateLimit,
+        @DefaultValue ClientKey clientKey,
+        Map<EndpointClass, Integer> concurrency,
+        @DefaultValue("1s") Duration concurrencyRetryAfter
+) {
+    /**
+     * Rate limit of a client, identified by its client key.
+     *
+     * @param requestsPerSecond Sustained number of requests per second allowed
+     * @param burst Number of requests a client may send at once after being idle
+     * @param maxClients Maximum number of clients tracked; the least recently seen are forgotten first
+     */
+    public record RateLimit(
+            @DefaultValue("50") double requestsPerSecond,
+            @DefaultValue("100") int burst,
+            @DefaultValue("100000") long maxClients
+    ) {
+    }
+
+    /**
+     * Identification of the clients by the rate limiter.
+     *
+     * @param source Source of the client keys
+     * @param apiKeyHeader Name of the header holding the API key of the client, when keyed by API key
+     */
+    public record ClientKey(
+            @DefaultValue("address") ClientKeySource source,
+            @DefaultValue("X-Api-Key") String apiKeyHeader
+    ) {
+    }
+}
@@ -0,0 +1,42 @@
+package pe.civa.matias_aliaga.shared.interfaces.rest.throttling;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Resolves the key of the client of a request, under which the rate limiter keeps its bucket.
+ * <p>
+ * Addresses are taken from the request as the server resolved them, so with server.forward-headers-strategy
+ * set they are the client addresses forwarded by a trusted proxy instead of the address of the proxy.
+ * Keys are prefixed by their source, so an API key can never share a bucket with an address.
+ */
+public class ClientKeyResolver {
+
+    /** Source of the client keys */
+    private final ClientKeySource source;
+
+    /** Name of the header holding the API key of the client */
+    private final String apiKeyHeader;
+
+    /**
+     * Constructor for ClientKeyResolver.
+     * @param source The source of the client keys
+     * @param apiKeyHeader The name of the header holding the API key of the client
+     */
+    public ClientKeyResolver(ClientKeySource source, String apiKeyHeader) {
+        this.source = source;
+        this.apiKeyHeader = apiKeyHeader;
+    }
+
+    /**
+     * Gets the key of the client of a request.
+     * @param request The request
+     * @return The client key
+     */
+    public String resolve(HttpServletRequest request) {
+        if (source == ClientKeySource.API_KEY) {
+            var apiKey = request.getHeader(apiKeyHeader);
+            if (apiKey != null && !apiKey.isBlank()) return "key:" + apiKey.strip();
+        }
+        return "address:" + request.getRemoteAddr();
+    }
+}
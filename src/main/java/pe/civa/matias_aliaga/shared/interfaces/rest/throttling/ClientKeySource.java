@@ -0,0 +1,18 @@
+package pe.civa.matias_aliaga.shared.interfaces.rest.throttling;
+
+/**
+ * Source of the key identifying the client of a request for the rate limiter.
+ */
+public enum ClientKeySource {
+    /**
+     * The client address. Behind a reverse proxy it is the address of the proxy unless forwarded headers are
+     * applied by the server, which only trusts them when they come from a trusted proxy.
+     */
+    ADDRESS,
+    /**
+     * The API key header of the request, falling back to the client address when the header is missing.
+     * The key is not verified here, so it must only be used behind a gateway that authenticates it;
+     * otherwise a client could escape its limit by sending a different key with every request.
+     */
+    API_KEY
+}
@@ -0,0 +1,60 @@
+package pe.civa.matias_aliaga.shared.interfaces.rest.throttling;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket per client, implemented as a generic cell rate algorithm.
+ * <p>
+ * Instead of a token count refilled over time, each client only keeps the theoretical arrival time of its next
+ * request, advanced by one emission interval per accepted request with a compare-and-set. A request is accepted
+ * while that time is at most burst intervals ahead of now. Clients are kept in a bounded cache, striped by key,
+ * and forgotten once their bucket would be full again, so an idle client costs nothing.
+ */
+public class ClientRateLimiter {
+
+    /** Nanoseconds between two requests at the sustained rate */
+    private final long emissionInterval;
+
+    /** How far ahead of now the theoretical arrival time may get, in nanoseconds */
+    private final long tolerance;
+
+    /** Theoretical arrival time of the next request of each client, in System.nanoTime() units */
+    private final Cache<String, AtomicLong> arrivals;
+
+    /**
+     * Constructor for ClientRateLimiter.
+     * @param requestsPerSecond Sustained number of requests per second allowed to each client
+     * @param burst Number of requests a client may send at once after being idle
+     * @param maxClients Maximum number of clients tracked
+     */
+    public ClientRateLimiter(double requestsPerSecond, int burst, long maxClients) {
+        if (requestsPerSecond <= 0 || burst < 1) throw new IllegalArgumentException("Rate and burst must be positive");
+        this.emissionInterval = Math.max(1, (long) (1_000_000_000L / requestsPerSecond));
+        this.tolerance = emissionInterval * burst;
+        this.arrivals = Caffeine.newBuilder()
+                .maximumSize(maxClients)
+                .expireAfterAccess(Duration.ofNanos(tolerance))
+                .build();
+    }
+
+    /**
+     * Takes a token from the bucket of a client.
+     * @param client The client key
+     * @return Zero if the request is accepted, otherwise the nanoseconds to wait before the next one would be
+     */
+    public long tryAcquire(String client) {
+        var now = System.nanoTime();
+        var arrival = arrivals.get(client, key -> new AtomicLong(now));
+        while (true) {
+            var current = arrival.get();
+            var next = Math.max(current, now) + emissionInterval;
+            var wait = next - now - tolerance;
+            if (wait > 0) return wait;
+            if (arrival.compareAndSet(current, next)) return 0;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package pe.civa.matias_aliaga.shared.interfaces.rest.throttling;
+
+/**
+ * Class of an endpoint, each with its own limit of concurrent requests.
+ */
+public enum EndpointClass {
+    /** Requests reading a bounded amount of data, by default every GET */
+    READ,
+    /** Requests changing data, by default every request other than a GET */
+    WRITE,
+    /** Requests reading every row of a table, which hold a connection for as long as the response is written */
+    EXPORT,
+    /** Long-lived subscriptions that do not use the database */
+    STREAM
+}
@@ -0,0 +1,21 @@
+package pe.civa.matias_aliaga.shared.interfaces.rest.throttling;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the endpoint class of a handler method when it is not the one implied by its HTTP method.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Throttled {
+    /**
+     * Gets the class of the endpoint.
+     * @return The endpoint class
+     */
+    EndpointClass value();
+}
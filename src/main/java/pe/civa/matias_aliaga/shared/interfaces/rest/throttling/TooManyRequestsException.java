@@ -0,0 +1,31 @@
+package pe.civa.matias_aliaga.shared.interfaces.rest.throttling;
+
+import java.time.Duration;
+
+/**
+ * Exception thrown when a request is rejected by the admission control, either because its client exceeded
+ * its rate limit or because too many requests of its endpoint class are already running.
+ */
+public class TooManyRequestsException extends RuntimeException {
+
+    /** Time after which the client may retry */
+    private final Duration retryAfter;
+
+    /**
+     * Constructs a new TooManyRequestsException.
+     * @param message The detail message explaining why the request was rejected
+     * @param retryAfter Time after which the client may retry
+     */
+    public TooManyRequestsException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Gets the time after which the client may retry.
+     * @return The retry delay
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
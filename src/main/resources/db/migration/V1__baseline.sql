@@ -0,0 +1,27 @@
+-- Schema as previously created by Hibernate (ddl-auto=update). Databases created that way are
+-- baselined at this version (spring.flyway.baseline-on-migrate), so this script only runs on empty databases.
+
+CREATE TABLE bus_brands (
+    id   BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(50)
+);
+
+CREATE SEQUENCE bus_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE buses (
+    id              BIGINT       NOT NULL PRIMARY KEY,
+    created_at      TIMESTAMP(6) NOT NULL,
+    updated_at      TIMESTAMP(6) NOT NULL,
+    bus_number      INTEGER      NOT NULL,
+    license_plate   VARCHAR(8)   NOT NULL,
+    characteristics VARCHAR(100),
+    is_active       BOOLEAN      NOT NULL,
+    brand_id        BIGINT       NOT NULL,
+    CONSTRAINT uk_buses_bus_number UNIQUE (bus_number),
+    CONSTRAINT uk_buses_license_plate UNIQUE (license_plate),
+    CONSTRAINT fk_buses_brand_id FOREIGN KEY (brand_id) REFERENCES bus_brands (id)
+);
+
+CREATE INDEX ix_buses_brand_id_is_active ON buses (brand_id, is_active);
+CREATE INDEX ix_buses_created_at ON buses (created_at);
+CREATE INDEX ix_buses_updated_at ON buses (updated_at);
@@ -0,0 +1,26 @@
+-- Formerly data.sql, run on every startup. Idempotent, so it also applies to baselined databases.
+
+-- Buses used to be keyed by an identity column and are now keyed by buses_seq, the pooled sequence Hibernate derives
+-- from the table name. Databases created by Hibernate (ddl-auto=update) were baselined at version 1 and never got it,
+-- and the baseline script created it as bus_seq, so rename or create it here, drop the identity it replaces, and make
+-- sure it always starts past the highest identifier already in use.
+DO $$
+BEGIN
+    IF to_regclass('bus_seq') IS NOT NULL AND to_regclass('buses_seq') IS NULL THEN
+        ALTER SEQUENCE bus_seq RENAME TO buses_seq;
+    END IF;
+END
+$$;
+CREATE SEQUENCE IF NOT EXISTS buses_seq START WITH 1 INCREMENT BY 50;
+ALTER TABLE buses ALTER COLUMN id DROP IDENTITY IF EXISTS;
+SELECT setval('buses_seq', GREATEST((SELECT last_value FROM buses_seq), (SELECT COALESCE(MAX(id), 0) FROM buses) + 50));
+
+-- Indexes behind the database-side filters and sorts of the bus listings, which baselined databases never got from
+-- the baseline script.
+CREATE INDEX IF NOT EXISTS ix_buses_brand_id_is_active ON buses (brand_id, is_active);
+CREATE INDEX IF NOT EXISTS ix_buses_created_at ON buses (created_at);
+CREATE INDEX IF NOT EXISTS ix_buses_updated_at ON buses (updated_at);
+
+-- Substring searches on the characteristics use a trigram index, which B-tree indexes declared on the entity cannot express.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS ix_buses_characteristics_trgm ON buses USING gin (lower(characteristics) gin_trgm_ops);
@@ -0,0 +1,34 @@
+-- Bus brands are reference data synchronised from the BusBrands enum with INSERT ... ON CONFLICT (name),
+-- which needs a unique constraint on the name. Instances seeding concurrently before this migration may have
+-- inserted the same brand twice: buses are moved to the oldest row of each name and the others are removed.
+
+UPDATE buses b
+SET brand_id = keep.id
+FROM bus_brands dup
+JOIN (SELECT name, min(id) AS id FROM bus_brands GROUP BY name) keep ON keep.name = dup.name
+WHERE b.brand_id = dup.id AND dup.id <> keep.id;
+
+DELETE FROM bus_brands dup
+USING bus_brands keep
+WHERE keep.name = dup.name AND keep.id < dup.id;
+
+-- Brands without a name cannot be matched to the enum, so the buses still using one cannot be merged anywhere:
+-- the migration stops with an explicit message instead of failing on the foreign key, and unused ones are removed.
+DO $$
+DECLARE
+    orphaned BIGINT;
+BEGIN
+    SELECT count(*) INTO orphaned
+    FROM buses b
+    JOIN bus_brands br ON br.id = b.brand_id
+    WHERE br.name IS NULL;
+    IF orphaned > 0 THEN
+        RAISE EXCEPTION '% buses reference a bus brand without a name; assign them a named brand (UPDATE buses SET brand_id = ...) and restart', orphaned;
+    END IF;
+END
+$$;
+
+DELETE FROM bus_brands WHERE name IS NULL;
+
+ALTER TABLE bus_brands ALTER COLUMN name SET NOT NULL;
+ALTER TABLE bus_brands ADD CONSTRAINT uk_bus_brands_name UNIQUE (name);
@@ -0,0 +1,40 @@
+-- Databases created by Hibernate (ddl-auto=update) before the unique constraints of the buses were named carry
+-- them under generated names, and being baselined at version 1 they never ran the baseline script naming them.
+-- Each single-column unique constraint on bus_number and license_plate is renamed to the expected name, or dropped
+-- when a constraint with that name already exists, so violations are reported under the names the API maps to
+-- precise conflicts and no column is left with two unique indexes. Renaming a constraint also renames its index.
+
+DO $$
+DECLARE
+    target RECORD;
+    legacy RECORD;
+BEGIN
+    FOR target IN
+        SELECT *
+        FROM (VALUES ('bus_number', 'uk_buses_bus_number'),
+                     ('license_plate', 'uk_buses_license_plate')) AS t (column_name, constraint_name)
+    LOOP
+        FOR legacy IN
+            SELECT c.conname
+            FROM pg_constraint c
+            JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = c.conkey[1]
+            WHERE c.conrelid = 'buses'::regclass
+              AND c.contype = 'u'
+              AND cardinality(c.conkey) = 1
+              AND a.attname = target.column_name
+              AND c.conname <> target.constraint_name
+            ORDER BY c.oid
+        LOOP
+            IF EXISTS (SELECT 1 FROM pg_constraint WHERE conrelid = 'buses'::regclass AND conname = target.constraint_name) THEN
+                EXECUTE format('ALTER TABLE buses DROP CONSTRAINT %I', legacy.conname);
+            ELSE
+                EXECUTE format('ALTER TABLE buses RENAME CONSTRAINT %I TO %I', legacy.conname, target.constraint_name);
+            END IF;
+        END LOOP;
+
+        IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conrelid = 'buses'::regclass AND conname = target.constraint_name) THEN
+            EXECUTE format('ALTER TABLE buses ADD CONSTRAINT %I UNIQUE (%I)', target.constraint_name, target.column_name);
+        END IF;
+    END LOOP;
+END
+$$;
@@ -0,0 +1,94 @@
+package pe.civa.matias_aliaga;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Migrates a scratch database holding the schema that Hibernate (ddl-auto=update) created before Flyway was
+ * introduced, the way such databases are upgraded: baselined at version 1 and migrated from there.
+ */
+@SpringBootTest(classes = DataSourceAutoConfiguration.class)
+class FlywayBaselineMigrationTests {
+
+	/** Schema created by Hibernate for the entities of the baseline commit, with its generated constraint names */
+	private static final String BASELINE_SCHEMA = """
+			create table bus_brands (
+				id bigint generated by default as identity primary key,
+				name varchar(50) check (name in ('MERCEDES_BENZ', 'VOLVO', 'SCANIA', 'MAN', 'IRIZAR', 'NEOPLAN',
+					'SETRA', 'YUTONG', 'KING_LONG', 'BYD', 'MARCOPOLO'))
+			);
+			create table buses (
+				id bigint generated by default as identity primary key,
+				created_at timestamp(6) not null,
+				updated_at timestamp(6) not null,
+				bus_number integer not null check (bus_number <= 9999 and bus_number >= 1000),
+				characteristics varchar(100),
+				is_active boolean not null,
+				license_plate varchar(8) not null,
+				brand_id bigint not null,
+				constraint ukf0wpejbtx1fk17hi1t6ba5vbv unique (bus_number),
+				constraint uk3tfjg4n3mo5ouw78vqflyrbeq unique (license_plate),
+				constraint fkgb482c1mkq1id1j7xknc3hbib foreign key (brand_id) references bus_brands
+			);
+			insert into bus_brands (name) values ('VOLVO');
+			insert into buses (created_at, updated_at, bus_number, license_plate, is_active, brand_id)
+			select now(), now(), 1000 + g, 'A' || lpad(g::text, 2, '0') || '-' || lpad(g::text, 3, '0'), true, 1
+			from generate_series(1, 120) g""";
+
+	private final String database = "civa_baseline_" + System.nanoTime();
+
+	@Autowired
+	private DataSourceProperties properties;
+
+	@Autowired
+	private DataSource dataSource;
+
+	private DriverManagerDataSource scratch;
+
+	@BeforeEach
+	void createBaselineDatabase() {
+		new JdbcTemplate(dataSource).execute("create database " + database);
+		scratch = new DriverManagerDataSource(properties.getUrl().replaceFirst("/[^/?]+(\\?|$)", "/" + database + "$1"),
+				properties.getUsername(), properties.getPassword());
+		new JdbcTemplate(scratch).execute(BASELINE_SCHEMA);
+	}
+
+	@AfterEach
+	void dropBaselineDatabase() {
+		new JdbcTemplate(dataSource).execute("drop database if exists " + database + " with (force)");
+	}
+
+	@Test
+	void baselinedDatabaseMigratesToTheMappedSchema() {
+		var result = Flyway.configure()
+				.dataSource(scratch)
+				.baselineOnMigrate(true)
+				.baselineVersion("1")
+				.load()
+				.migrate();
+
+		assertTrue(result.success);
+		var jdbc = new JdbcTemplate(scratch);
+		assertEquals("NO", jdbc.queryForObject(
+				"select is_identity from information_schema.columns where table_name = 'buses' and column_name = 'id'",
+				String.class));
+		assertTrue(jdbc.queryForObject("select nextval('buses_seq')", Long.class) > 120);
+		assertTrue(jdbc.queryForList("select indexname from pg_indexes where tablename = 'buses'", String.class)
+				.containsAll(List.of("ix_buses_brand_id_is_active", "ix_buses_created_at", "ix_buses_updated_at",
+						"ix_buses_characteristics_trgm", "uk_buses_bus_number", "uk_buses_license_plate")));
+	}
+
+}
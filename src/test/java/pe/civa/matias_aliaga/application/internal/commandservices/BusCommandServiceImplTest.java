@@ -0,0 +1,83 @@
+package pe.civa.matias_aliaga.application.internal.commandservices;
+
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import pe.civa.matias_aliaga.domain.model.commands.CreateBusCommand;
+import pe.civa.matias_aliaga.domain.model.commands.CreateBusesCommand;
+import pe.civa.matias_aliaga.domain.model.entities.Bus;
+import pe.civa.matias_aliaga.domain.model.entities.BusBrand;
+import pe.civa.matias_aliaga.domain.model.valueobjects.BusBrands;
+import pe.civa.matias_aliaga.infrastructure.persistence.inmemory.BusBrandRegistry;
+import pe.civa.matias_aliaga.infrastructure.persistence.inmemory.BusImportJobRegistry;
+import pe.civa.matias_aliaga.infrastructure.persistence.inmemory.LicensePlateIndex;
+import pe.civa.matias_aliaga.infrastructure.persistence.jpa.repositories.BusRepository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class BusCommandServiceImplTest {
+
+	private final BusRepository busRepository = mock(BusRepository.class);
+
+	private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+	private final BusCommandServiceImpl service;
+
+	BusCommandServiceImplTest() {
+		var busBrandRegistry = mock(BusBrandRegistry.class);
+		when(busBrandRegistry.find(any())).thenAnswer(invocation -> Optional.of(new BusBrand(invocation.getArgument(0, BusBrands.class))));
+		when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+		var ids = new AtomicLong();
+		when(busRepository.saveAll(anyCollection())).thenAnswer(invocation -> {
+			Iterable<Bus> buses = invocation.getArgument(0);
+			buses.forEach(bus -> ReflectionTestUtils.setField(bus, "id", ids.incrementAndGet()));
+			return buses;
+		});
+		service = new BusCommandServiceImpl(busRepository, busBrandRegistry, mock(Validator.class), mock(LicensePlateIndex.class),
+				mock(ApplicationEventPublisher.class), mock(BusCsvImporter.class), mock(BusImportJobRegistry.class),
+				mock(TaskExecutor.class), transactionManager);
+	}
+
+	@Test
+	void retriesWithoutTheItemsConflictingWithAConcurrentInsert() {
+		var concurrent = new Bus(new CreateBusCommand(1001, "A1B-123", null, "VOLVO", true), new BusBrand(BusBrands.VOLVO));
+		when(busRepository.findByBusNumberInOrLicensePlateIn(anyCollection(), anyCollection()))
+				.thenReturn(List.of())
+				.thenReturn(List.of(concurrent));
+		doThrow(new DataIntegrityViolationException("duplicate key")).doNothing().when(busRepository).flush();
+
+		var results = service.handle(new CreateBusesCommand(List.of(
+				new CreateBusCommand(1001, "A1B-123", null, "VOLVO", true),
+				new CreateBusCommand(1002, "C3D-456", null, "SCANIA", true))));
+
+		assertFalse(results.get(0).isCreated());
+		assertTrue(results.get(0).error().contains("already exists"));
+		assertTrue(results.get(1).isCreated());
+		verify(busRepository, times(2)).flush();
+		verify(transactionManager).rollback(any());
+		verify(transactionManager).commit(any());
+	}
+
+	@Test
+	void failsTheBatchWhenConflictsPersist() {
+		when(busRepository.findByBusNumberInOrLicensePlateIn(anyCollection(), anyCollection())).thenReturn(List.of());
+		doThrow(new DataIntegrityViolationException("duplicate key")).when(busRepository).flush();
+
+		assertThrows(DataIntegrityViolationException.class, () -> service.handle(new CreateBusesCommand(List.of(
+				new CreateBusCommand(1001, "A1B-123", null, "VOLVO", true)))));
+		verify(busRepository, times(3)).flush();
+	}
+
+}
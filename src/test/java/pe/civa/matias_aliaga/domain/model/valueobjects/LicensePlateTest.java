@@ -0,0 +1,37 @@
+package pe.civa.matias_aliaga.domain.model.valueobjects;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LicensePlateTest {
+
+	@Test
+	void encodeAgreesWithValidationPattern() {
+		var pattern = Pattern.compile(LicensePlate.VALIDATION_PATTERN);
+		for (var value : new String[]{"A1B-123", "Z9Z-999", "A0A-000", "a1B-123", "A1B123", "A1B-12", "AAB-123", "A1B_123", "A1B-12X", "", "A1B-1234"}) {
+			assertEquals(pattern.matcher(value).matches(), LicensePlate.isValid(value), value);
+		}
+		assertEquals(-1, LicensePlate.encode(null));
+	}
+
+	@Test
+	void decodeIsTheInverseOfEncode() {
+		for (int code = 0; code < LicensePlate.CARDINALITY; code++) {
+			assertEquals(code, LicensePlate.encode(LicensePlate.decode(code)));
+		}
+		assertEquals("A0A-000", LicensePlate.decode(0));
+		assertEquals("Z9Z-999", LicensePlate.decode(LicensePlate.CARDINALITY - 1));
+		assertThrows(IllegalArgumentException.class, () -> LicensePlate.decode(LicensePlate.CARDINALITY));
+	}
+
+	@Test
+	void constructorRejectsInvalidPlates() {
+		assertEquals(LicensePlate.encode("B2C-345"), new LicensePlate("B2C-345").getCode());
+		assertThrows(IllegalArgumentException.class, () -> new LicensePlate("B2C-34"));
+		assertThrows(IllegalArgumentException.class, () -> new LicensePlate(null));
+	}
+
+}
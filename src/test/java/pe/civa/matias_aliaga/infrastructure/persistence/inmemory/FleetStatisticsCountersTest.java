@@ -0,0 +1,51 @@
+package pe.civa.matias_aliaga.infrastructure.persistence.inmemory;
+
+import org.junit.jupiter.api.Test;
+import pe.civa.matias_aliaga.domain.model.projections.BusCountByBrand;
+import pe.civa.matias_aliaga.domain.model.valueobjects.BusBrands;
+import pe.civa.matias_aliaga.infrastructure.persistence.jpa.repositories.BusRepository;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FleetStatisticsCountersTest {
+
+	private final BusRepository repository = mock(BusRepository.class);
+
+	private final FleetStatisticsCounters counters = new FleetStatisticsCounters(repository);
+
+	@Test
+	void loadReplacesTheCountersWithTheDatabaseCounts() {
+		counters.increment(BusBrands.VOLVO, true);
+		when(repository.countByBrandAndActive()).thenReturn(List.of(
+				new BusCountByBrand(BusBrands.VOLVO, true, 3),
+				new BusCountByBrand(BusBrands.SCANIA, false, 2)));
+
+		counters.load();
+
+		var statistics = counters.snapshot();
+		assertTrue(counters.isLoaded());
+		assertEquals(5, statistics.total());
+		assertEquals(3, statistics.active());
+		assertEquals(2, statistics.inactive());
+	}
+
+	@Test
+	void keepsBusesCreatedWhileReloading() {
+		when(repository.countByBrandAndActive()).thenAnswer(invocation -> {
+			counters.increment(BusBrands.VOLVO, true);
+			assertEquals(1, counters.snapshot().total());
+			return List.of(new BusCountByBrand(BusBrands.SCANIA, true, 4));
+		});
+
+		counters.load();
+
+		assertEquals(5, counters.snapshot().total());
+		counters.increment(BusBrands.SCANIA, false);
+		assertEquals(6, counters.snapshot().total());
+	}
+
+}
@@ -0,0 +1,72 @@
+package pe.civa.matias_aliaga.infrastructure.persistence.inmemory;
+
+import org.junit.jupiter.api.Test;
+import pe.civa.matias_aliaga.domain.model.projections.BusLicensePlate;
+import pe.civa.matias_aliaga.domain.model.valueobjects.LicensePlate;
+import pe.civa.matias_aliaga.infrastructure.persistence.jpa.repositories.BusRepository;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LicensePlateIndexTest {
+
+	@Test
+	void loadIndexesEveryPersistedPlate() {
+		var repository = mock(BusRepository.class);
+		when(repository.streamAllLicensePlates()).thenReturn(IntStream.range(0, 5000)
+				.mapToObj(code -> new BusLicensePlate((long) code + 1, LicensePlate.decode(code * 13))));
+		var index = new LicensePlateIndex(repository);
+
+		index.load();
+
+		assertTrue(index.isLoaded());
+		assertEquals(5000, index.size());
+		for (int code = 0; code < 5000; code++) {
+			assertEquals(code + 1, index.findBusId(code * 13).orElseThrow());
+		}
+		assertFalse(index.contains(1));
+		assertFalse(index.contains(-1));
+	}
+
+	@Test
+	void loadKeepsPlatesAddedBeforeIt() {
+		var repository = mock(BusRepository.class);
+		when(repository.streamAllLicensePlates()).thenReturn(Stream.of(new BusLicensePlate(1L, "A1B-123")));
+		var index = new LicensePlateIndex(repository);
+		index.put(LicensePlate.encode("C3D-456"), 2L);
+
+		index.load();
+
+		assertEquals(2, index.size());
+		assertEquals(1L, index.findBusId(LicensePlate.encode("A1B-123")).orElseThrow());
+		assertEquals(2L, index.findBusId(LicensePlate.encode("C3D-456")).orElseThrow());
+	}
+
+	@Test
+	void loadSkipsPlatesNotMatchingTheFormat() {
+		var repository = mock(BusRepository.class);
+		when(repository.streamAllLicensePlates()).thenReturn(Stream.of(
+				new BusLicensePlate(1L, "ABC-1234"),
+				new BusLicensePlate(2L, "A1B-123"),
+				new BusLicensePlate(3L, "legacy")));
+		var index = new LicensePlateIndex(repository);
+
+		index.load();
+
+		assertEquals(1, index.size());
+		assertEquals(2L, index.findBusId(LicensePlate.encode("A1B-123")).orElseThrow());
+		assertFalse(index.contains(-1));
+		assertTrue(index.findBusId(-1).isEmpty());
+	}
+
+	@Test
+	void putRejectsInvalidCodes() {
+		var index = new LicensePlateIndex(mock(BusRepository.class));
+		assertThrows(IllegalArgumentException.class, () -> index.put(-1, 1L));
+	}
+
+}
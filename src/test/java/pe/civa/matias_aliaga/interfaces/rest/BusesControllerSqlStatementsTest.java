@@ -0,0 +1,103 @@
+package pe.civa.matias_aliaga.interfaces.rest;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import pe.civa.matias_aliaga.domain.model.queries.GetAllBusesQuery;
+import pe.civa.matias_aliaga.domain.model.queries.StreamAllBusesQuery;
+import pe.civa.matias_aliaga.domain.model.valueobjects.BusSearchCriteria;
+import pe.civa.matias_aliaga.domain.services.BusQueryService;
+import pe.civa.matias_aliaga.shared.infrastructure.monitoring.sql.SqlStatementScope;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "civa.admission.enabled=false")
+@AutoConfigureMockMvc
+class BusesControllerSqlStatementsTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private BusQueryService busQueryService;
+
+	@Test
+	void paginatedListingIssuesAtMostTwoStatements() throws Exception {
+		try (var scope = SqlStatementScope.open("test")) {
+			mockMvc.perform(get("/api/v1/buses").param("paginated", "true").param("totals", "none"))
+					.andExpect(status().isOk());
+			assertTrue(scope.getStatementCount() <= 2, () -> scope.getStatementCount() + " statements");
+		}
+	}
+
+	@Test
+	void unconditionalCursorWindowIssuesOneStatement() throws Exception {
+		try (var scope = SqlStatementScope.open("test")) {
+			mockMvc.perform(get("/api/v1/buses").param("limit", "20"))
+					.andExpect(status().isOk())
+					.andExpect(header().doesNotExist(HttpHeaders.ETAG));
+			assertEquals(1, scope.getStatementCount());
+		}
+	}
+
+	@Test
+	void conditionalCursorWindowIsTagged() throws Exception {
+		var etag = mockMvc.perform(get("/api/v1/buses").param("limit", "20").header(HttpHeaders.IF_NONE_MATCH, "\"\""))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+		assertNotNull(etag);
+		mockMvc.perform(get("/api/v1/buses").param("limit", "20").header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isNotModified());
+	}
+
+	@Test
+	void cachedBusIsServedWithoutStatements() throws Exception {
+		var id = busQueryService.handle(new GetAllBusesQuery()).getFirst().getId();
+		var etag = mockMvc.perform(get("/api/v1/buses/{id}", id))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getHeaders(HttpHeaders.ETAG);
+		assertEquals(1, etag.size());
+		assertTrue(etag.getFirst().startsWith("W/\""), etag::getFirst);
+		try (var scope = SqlStatementScope.open("test")) {
+			mockMvc.perform(get("/api/v1/buses/{id}", id))
+					.andExpect(status().isOk())
+					.andExpect(header().string(HttpHeaders.ETAG, etag.getFirst()));
+			assertEquals(0, scope.getStatementCount());
+		}
+		mockMvc.perform(get("/api/v1/buses/{id}", id).header(HttpHeaders.IF_NONE_MATCH, etag.getFirst()))
+				.andExpect(status().isNotModified());
+		var tags = mockMvc.perform(get("/api/v1/buses/{id}", id).header(HttpHeaders.IF_NONE_MATCH, "\"stale\""))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getHeaders(HttpHeaders.ETAG);
+		assertEquals(List.of(etag.getFirst()), tags);
+	}
+
+	@Test
+	void fullListingLoadsBrandsWithoutExtraStatements() {
+		try (var scope = SqlStatementScope.open("test")) {
+			var buses = busQueryService.handle(new GetAllBusesQuery());
+			buses.forEach(bus -> assertNotNull(bus.getBrand().getName()));
+			assertEquals(1, scope.getStatementCount());
+			assertTrue(scope.getRepeatedStatements(2).isEmpty());
+		}
+	}
+
+	@Test
+	void streamedListingIssuesOneStatement() {
+		try (var scope = SqlStatementScope.open("test")) {
+			busQueryService.handle(new StreamAllBusesQuery(BusSearchCriteria.none(), Sort.unsorted()), bus -> {
+			});
+			assertEquals(1, scope.getStatementCount());
+		}
+	}
+
+}
@@ -0,0 +1,63 @@
+package pe.civa.matias_aliaga.interfaces.rest.exceptions;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GlobalExceptionHandlerTest {
+
+	private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+	@Test
+	void mapsNamedConstraintsToPreciseConflicts() {
+		var response = handler.handleDataIntegrityViolation(violation("uk_buses_bus_number",
+				"ERROR: duplicate key value violates unique constraint \"uk_buses_bus_number\"\n  Detail: Key (bus_number)=(1234) already exists."));
+
+		assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+		assertEquals(List.of("A bus with this bus number already exists."), response.getBody().errors());
+	}
+
+	@Test
+	void mapsLegacyConstraintNamesByTheirColumn() {
+		var response = handler.handleDataIntegrityViolation(violation("uk4f2gkv8ddyfvxmfqy3xs4ghbo",
+				"ERROR: duplicate key value violates unique constraint \"uk4f2gkv8ddyfvxmfqy3xs4ghbo\"\n  Detail: Key (license_plate)=(A1B-123) already exists."));
+
+		assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+		assertEquals(List.of("A bus with this license plate already exists."), response.getBody().errors());
+	}
+
+	@Test
+	void mapsUnknownUniqueViolationsToGenericConflicts() {
+		var response = handler.handleDataIntegrityViolation(violation("uk_other",
+				"ERROR: duplicate key value violates unique constraint \"uk_other\"\n  Detail: Key (other)=(1) already exists."));
+
+		assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+		assertEquals(List.of("A resource with the same unique values already exists."), response.getBody().errors());
+	}
+
+	@Test
+	void hidesOtherIntegrityViolationsBehindServerErrors() {
+		var response = handler.handleDataIntegrityViolation(violation("fk_buses_brand_id", "23503",
+				"ERROR: insert or update on table \"buses\" violates foreign key constraint \"fk_buses_brand_id\"\n  Detail: Key (brand_id)=(99) is not present in table \"bus_brands\"."));
+
+		assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
+		assertEquals(List.of("Unexpected error occurred"), response.getBody().errors());
+	}
+
+	private static DataIntegrityViolationException violation(String constraintName, String message) {
+		return violation(constraintName, "23505", message);
+	}
+
+	private static DataIntegrityViolationException violation(String constraintName, String sqlState, String message) {
+		var cause = new SQLException(message, sqlState);
+		return new DataIntegrityViolationException("could not execute statement",
+				new ConstraintViolationException("could not execute statement", cause, constraintName));
+	}
+
+}
@@ -0,0 +1,189 @@
+package pe.civa.matias_aliaga.shared.infrastructure.concurrency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Timeout(10)
+class CoalescingBatchLoaderTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor();
+
+	/** Keys of every call to the batch function */
+	private final List<Set<Integer>> batches = new CopyOnWriteArrayList<>();
+
+	/** Released to let the load of key 0 complete */
+	private final CountDownLatch releaseZero = new CountDownLatch(1);
+
+	private CoalescingBatchLoader<Integer, String> loader;
+
+	@AfterEach
+	void close() {
+		releaseZero.countDown();
+		callers.shutdownNow();
+		if (loader != null) loader.close();
+	}
+
+	@Test
+	void loadsAtOnceWhenIdle() {
+		loader = loader(Duration.ofHours(1), 64, this::values);
+
+		assertEquals(Optional.of("value-1"), loader.load(1));
+		assertEquals(Optional.of("value-2"), loader.load(2));
+
+		assertEquals(List.of(Set.of(1), Set.of(2)), batches);
+	}
+
+	@Test
+	void sharesOneLoadBetweenLookupsOfTheSameKey() throws Exception {
+		loader = loader(Duration.ofHours(1), 64, this::values);
+
+		var first = lookup(0);
+		awaitRequests(1);
+		var second = lookup(0);
+		awaitCoalesced(1);
+		releaseZero.countDown();
+
+		assertEquals(Optional.of("value-0"), first.get());
+		assertEquals(Optional.of("value-0"), second.get());
+		assertEquals(List.of(Set.of(0)), batches);
+	}
+
+	@Test
+	void loadsAFullBatchWithoutWaitingForTheWindow() throws Exception {
+		loader = loader(Duration.ofHours(1), 3, this::values);
+		var busy = lookup(0);
+		awaitRequests(1);
+
+		var lookups = List.of(lookup(1), lookup(2), lookup(3));
+
+		for (int i = 0; i < lookups.size(); i++) assertEquals(Optional.of("value-" + (i + 1)), lookups.get(i).get());
+		assertFalse(busy.isDone());
+		assertEquals(List.of(Set.of(0), Set.of(1, 2, 3)), batches);
+	}
+
+	@Test
+	void loadsAPartialBatchOnceTheWindowElapses() throws Exception {
+		loader = loader(Duration.ofMillis(200), 64, this::values);
+		var busy = lookup(0);
+		awaitRequests(1);
+
+		var first = lookup(1);
+		var second = lookup(2);
+
+		assertEquals(Optional.of("value-1"), first.get());
+		assertEquals(Optional.of("value-2"), second.get());
+		assertFalse(busy.isDone());
+		assertEquals(List.of(Set.of(0), Set.of(1, 2)), batches);
+	}
+
+	@Test
+	void loadsThePendingBatchWhenTheLoadInProgressCompletes() throws Exception {
+		loader = loader(Duration.ofHours(1), 64, this::values);
+		var busy = lookup(0);
+		awaitRequests(1);
+		var pending = lookup(1);
+		awaitRequests(2);
+
+		releaseZero.countDown();
+
+		assertEquals(Optional.of("value-0"), busy.get());
+		assertEquals(Optional.of("value-1"), pending.get());
+		assertEquals(List.of(Set.of(0), Set.of(1)), batches);
+	}
+
+	@Test
+	void completesKeysWithoutValueEmpty() throws Exception {
+		loader = loader(Duration.ofMillis(50), 64, keys -> {
+			var values = values(keys);
+			values.remove(2);
+			return values;
+		});
+		var busy = lookup(0);
+		awaitRequests(1);
+
+		var found = lookup(1);
+		var missing = lookup(2);
+
+		assertEquals(Optional.of("value-1"), found.get());
+		assertEquals(Optional.empty(), missing.get());
+		releaseZero.countDown();
+		assertEquals(Optional.of("value-0"), busy.get());
+	}
+
+	@Test
+	void propagatesFailuresToEveryWaiter() throws Exception {
+		loader = loader(Duration.ofMillis(50), 64, keys -> {
+			var values = values(keys);
+			if (keys.contains(1)) throw new IllegalStateException("Batch failed");
+			return values;
+		});
+		var busy = lookup(0);
+		awaitRequests(1);
+
+		var first = lookup(1);
+		var coalesced = lookup(1);
+		var second = lookup(2);
+
+		for (var lookup : List.of(first, coalesced, second)) {
+			var failure = assertThrows(ExecutionException.class, lookup::get);
+			assertInstanceOf(IllegalStateException.class, failure.getCause());
+			assertEquals("Batch failed", failure.getCause().getMessage());
+		}
+		releaseZero.countDown();
+		assertEquals(Optional.of("value-0"), busy.get());
+	}
+
+	private CoalescingBatchLoader<Integer, String> loader(Duration window, int maxBatchSize,
+														  Function<Set<Integer>, Map<Integer, String>> batchFunction) {
+		return new CoalescingBatchLoader<>("test", batchFunction, window, maxBatchSize, meterRegistry);
+	}
+
+	/** Batch function recording its keys and blocking on key 0 until released */
+	private Map<Integer, String> values(Set<Integer> keys) {
+		batches.add(Set.copyOf(keys));
+		if (keys.contains(0)) {
+			try {
+				releaseZero.await();
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		var values = new HashMap<Integer, String>();
+		for (var key : keys) values.put(key, "value-" + key);
+		return values;
+	}
+
+	private CompletableFuture<Optional<String>> lookup(int key) {
+		return CompletableFuture.supplyAsync(() -> loader.load(key), callers);
+	}
+
+	private void awaitRequests(int count) throws InterruptedException {
+		while (meterRegistry.get("civa.batch.requests").counter().count() < count) Thread.sleep(1);
+		Thread.sleep(20);
+	}
+
+	private void awaitCoalesced(int count) throws InterruptedException {
+		while (meterRegistry.get("civa.batch.coalesced").counter().count() < count) Thread.sleep(1);
+	}
+
+}
@@ -0,0 +1,32 @@
+package pe.civa.matias_aliaga.shared.infrastructure.csv;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvReaderTest {
+
+	@Test
+	void readsQuotedFieldsAcrossLines() throws IOException {
+		var csv = new CsvReader(new StringReader("a,b,c\r\n1,\"x, \"\"y\"\"\nz\",\n2,,last"), 100);
+		assertEquals(List.of("a", "b", "c"), csv.readRecord());
+		assertEquals(1, csv.getRecordLine());
+		assertEquals(List.of("1", "x, \"y\"\nz", ""), csv.readRecord());
+		assertEquals(2, csv.getRecordLine());
+		assertEquals(List.of("2", "", "last"), csv.readRecord());
+		assertEquals(4, csv.getRecordLine());
+		assertNull(csv.readRecord());
+	}
+
+	@Test
+	void rejectsMalformedRecords() {
+		assertThrows(IllegalArgumentException.class, () -> new CsvReader(new StringReader("\"open"), 100).readRecord());
+		assertThrows(IllegalArgumentException.class, () -> new CsvReader(new StringReader("\"a\"b,c"), 100).readRecord());
+		assertThrows(IllegalArgumentException.class, () -> new CsvReader(new StringReader("abcdef"), 3).readRecord());
+	}
+
+}
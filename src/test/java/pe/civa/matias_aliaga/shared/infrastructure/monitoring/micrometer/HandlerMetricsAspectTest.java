@@ -0,0 +1,56 @@
+package pe.civa.matias_aliaga.shared.infrastructure.monitoring.micrometer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import pe.civa.matias_aliaga.domain.model.commands.CreateBusCommand;
+import pe.civa.matias_aliaga.domain.model.exceptions.BusAlreadyExistsException;
+import pe.civa.matias_aliaga.domain.services.BusCommandService;
+
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class HandlerMetricsAspectTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Test
+	void tagsClientConflictsAsRejectedAndOtherIntegrityViolationsAsErrors() {
+		var service = proxy();
+		var command = new CreateBusCommand(1001, "A1B-123", null, "VOLVO", true);
+
+		assertThrows(BusAlreadyExistsException.class, () -> service.handle(command));
+		assertThrows(DataIntegrityViolationException.class, () -> service.handle(command));
+		assertThrows(DataIntegrityViolationException.class, () -> service.handle(command));
+		assertThrows(IllegalStateException.class, () -> service.handle(command));
+
+		assertEquals(1, count("rejected", "BusAlreadyExistsException"));
+		assertEquals(1, count("rejected", "DataIntegrityViolationException"));
+		assertEquals(1, count("error", "DataIntegrityViolationException"));
+		assertEquals(1, count("error", "IllegalStateException"));
+	}
+
+	private BusCommandService proxy() {
+		var target = mock(BusCommandService.class);
+		when(target.handle(any(CreateBusCommand.class)))
+				.thenThrow(new BusAlreadyExistsException("Bus already exists"))
+				.thenThrow(new DataIntegrityViolationException("duplicate key", new SQLException("duplicate key value", "23505")))
+				.thenThrow(new DataIntegrityViolationException("not-null", new SQLException("null value in column", "23502")))
+				.thenThrow(new IllegalStateException("Unexpected"));
+		var factory = new AspectJProxyFactory(target);
+		factory.addAspect(new HandlerMetricsAspect(meterRegistry));
+		return factory.getProxy();
+	}
+
+	private long count(String outcome, String exception) {
+		return meterRegistry.get(HandlerMetricsAspect.METRIC_NAME)
+				.tags("service", "BusCommandService", "type", "CreateBusCommand", "outcome", outcome, "exception", exception)
+				.timer().count();
+	}
+
+}
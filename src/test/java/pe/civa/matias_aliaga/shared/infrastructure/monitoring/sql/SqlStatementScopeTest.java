@@ -0,0 +1,59 @@
+package pe.civa.matias_aliaga.shared.infrastructure.monitoring.sql;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlStatementScopeTest {
+
+	private final SqlStatementListener listener = new SqlStatementListener(Duration.ofHours(1), 0);
+
+	@Test
+	void recordsStatementsInEveryEnclosingScope() {
+		try (var request = SqlStatementScope.open("request")) {
+			execute("select b from buses b", null);
+			try (var handler = SqlStatementScope.open("handler")) {
+				execute("update buses set is_active = ? where id = ?", 3);
+				assertEquals(1, handler.getStatementCount());
+				assertEquals(3, handler.getRowCount());
+			}
+			assertSame(request, SqlStatementScope.current().orElseThrow());
+			assertEquals(2, request.getStatementCount());
+			assertEquals(3, request.getRowCount());
+		}
+		assertTrue(SqlStatementScope.current().isEmpty());
+	}
+
+	@Test
+	void detectsRepeatedStatements() {
+		try (var scope = SqlStatementScope.open("request")) {
+			execute("select b from buses b", null);
+			for (int i = 0; i < 5; i++) execute("select br from bus_brands br where br.id = ?", null);
+			assertEquals(Map.of("select br from bus_brands br where br.id = ?", 5), scope.getRepeatedStatements(5));
+			assertTrue(scope.getRepeatedStatements(6).isEmpty());
+		}
+	}
+
+	@Test
+	void ignoresStatementsOutsideScopes() {
+		execute("select 1", null);
+		try (var scope = SqlStatementScope.open("request")) {
+			assertEquals(0, scope.getStatementCount());
+		}
+	}
+
+	private void execute(String sql, Object result) {
+		var execution = new ExecutionInfo();
+		var queries = List.of(new QueryInfo(sql));
+		listener.beforeQuery(execution, queries);
+		execution.setResult(result);
+		listener.afterQuery(execution, queries);
+	}
+
+}
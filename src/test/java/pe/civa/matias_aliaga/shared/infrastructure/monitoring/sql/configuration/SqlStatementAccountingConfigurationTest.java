@@ -0,0 +1,77 @@
+package pe.civa.matias_aliaga.shared.infrastructure.monitoring.sql.configuration;
+
+import net.ttddyy.dsproxy.proxy.ProxyJdbcObject;
+import org.junit.jupiter.api.Test;
+import pe.civa.matias_aliaga.shared.infrastructure.monitoring.sql.SqlStatementScope;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SqlStatementAccountingConfigurationTest {
+
+	private final ResultSet resultSet = mock(ResultSet.class);
+
+	@Test
+	void countsStatementsWithoutProxyingResultSetsByDefault() throws SQLException {
+		var dataSource = wrap(false);
+
+		try (var scope = SqlStatementScope.open("test");
+			 var connection = dataSource.getConnection();
+			 var statement = connection.prepareStatement("select b.id from buses b")) {
+			var rows = statement.executeQuery();
+			assertSame(resultSet, rows);
+			assertEquals(3, read(rows));
+			assertEquals(1, scope.getStatementCount());
+			assertEquals(0, scope.getRowCount());
+		}
+	}
+
+	@Test
+	void countsRowsReadWhenEnabled() throws SQLException {
+		var dataSource = wrap(true);
+
+		try (var scope = SqlStatementScope.open("test");
+			 var connection = dataSource.getConnection();
+			 var statement = connection.prepareStatement("select b.id from buses b")) {
+			var rows = statement.executeQuery();
+			assertInstanceOf(ProxyJdbcObject.class, rows);
+			assertSame(resultSet, ((ProxyJdbcObject) rows).getTarget());
+			assertEquals(3, read(rows));
+			assertEquals(1, scope.getStatementCount());
+			assertEquals(3, scope.getRowCount());
+		}
+	}
+
+	private DataSource wrap(boolean countRowsRead) throws SQLException {
+		var dataSource = mock(DataSource.class);
+		var connection = mock(Connection.class);
+		var statement = mock(PreparedStatement.class);
+		when(dataSource.getConnection()).thenReturn(connection);
+		when(connection.prepareStatement(anyString())).thenReturn(statement);
+		when(statement.executeQuery()).thenReturn(resultSet);
+		when(resultSet.next()).thenReturn(true, true, true, false);
+		when(resultSet.getLong(1)).thenReturn(7L);
+		var postProcessor = SqlStatementAccountingConfiguration.sqlStatementAccountingDataSourcePostProcessor(
+				Duration.ofHours(1), 0, countRowsRead);
+		return (DataSource) postProcessor.postProcessAfterInitialization(dataSource, "dataSource");
+	}
+
+	private static int read(ResultSet rows) throws SQLException {
+		var count = 0;
+		while (rows.next()) {
+			assertEquals(7L, rows.getLong(1));
+			count++;
+		}
+		return count;
+	}
+
+}
@@ -0,0 +1,118 @@
+package pe.civa.matias_aliaga.shared.interfaces.rest.streaming;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+@Timeout(10)
+class ServerSentEventBroadcasterTest {
+
+	private static final Pattern EVENT_ID = Pattern.compile("id:(\\S+)\\nevent:created");
+
+	private ServerSentEventBroadcaster broadcaster;
+
+	@AfterEach
+	void close() {
+		if (broadcaster != null) broadcaster.close();
+	}
+
+	@Test
+	void replaysTheEventsPublishedAfterTheLastEventId() throws Exception {
+		broadcaster = new ServerSentEventBroadcaster(16, 16, Duration.ofHours(1), Duration.ofHours(1));
+		var mvc = mockMvc();
+		var first = subscribe(mvc, null);
+		for (int i = 1; i <= 3; i++) broadcaster.publish("created", "{\"bus\":" + i + "}");
+		var firstEventId = eventIds(awaitContent(first, "{\"bus\":3}"))[0];
+
+		var reconnected = awaitContent(subscribe(mvc, firstEventId), "{\"bus\":3}");
+
+		assertFalse(reconnected.contains("{\"bus\":1}"));
+		assertTrue(reconnected.indexOf("{\"bus\":2}") < reconnected.indexOf("{\"bus\":3}"));
+		assertFalse(reconnected.contains("event:" + ServerSentEventBroadcaster.RESET_EVENT));
+	}
+
+	@Test
+	void resetsClientsWhoseLastEventAgedOut() throws Exception {
+		broadcaster = new ServerSentEventBroadcaster(2, 16, Duration.ofHours(1), Duration.ofHours(1));
+		var mvc = mockMvc();
+		var first = subscribe(mvc, null);
+		for (int i = 1; i <= 4; i++) broadcaster.publish("created", "{\"bus\":" + i + "}");
+		var firstEventId = eventIds(awaitContent(first, "{\"bus\":4}"))[0];
+
+		var reconnected = awaitContent(subscribe(mvc, firstEventId), "event:" + ServerSentEventBroadcaster.RESET_EVENT);
+		var unknown = awaitContent(subscribe(mvc, "another-instance:1"), "event:" + ServerSentEventBroadcaster.RESET_EVENT);
+
+		assertFalse(reconnected.contains("{\"bus\":"));
+		assertFalse(unknown.contains("{\"bus\":"));
+	}
+
+	@Test
+	void evictsSubscribersWhoseQueueIsFull() throws Exception {
+		var senders = Executors.newSingleThreadExecutor();
+		var blocked = new CountDownLatch(1);
+		senders.execute(() -> {
+			try {
+				blocked.await();
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		broadcaster = new ServerSentEventBroadcaster(16, 2, Duration.ofHours(1), Duration.ofHours(1), senders);
+		broadcaster.subscribe(null);
+
+		broadcaster.publish("created", "{\"bus\":1}");
+		broadcaster.publish("created", "{\"bus\":2}");
+		assertEquals(1, broadcaster.getSubscriberCount());
+		broadcaster.publish("created", "{\"bus\":3}");
+
+		assertEquals(0, broadcaster.getSubscriberCount());
+		assertEquals(1, broadcaster.getEvictionCount());
+		blocked.countDown();
+		senders.shutdown();
+	}
+
+	private MockMvc mockMvc() {
+		return MockMvcBuilders.standaloneSetup(new StreamController(broadcaster)).build();
+	}
+
+	private static MockHttpServletResponse subscribe(MockMvc mvc, String lastEventId) throws Exception {
+		var builder = get("/stream");
+		if (lastEventId != null) builder.header("Last-Event-ID", lastEventId);
+		return mvc.perform(builder).andExpect(request().asyncStarted()).andReturn().getResponse();
+	}
+
+	private static String awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+		while (!response.getContentAsString().contains(expected)) Thread.sleep(5);
+		return response.getContentAsString();
+	}
+
+	private static String[] eventIds(String content) {
+		return EVENT_ID.matcher(content).results().map(result -> result.group(1)).toArray(String[]::new);
+	}
+
+	@RestController
+	record StreamController(ServerSentEventBroadcaster broadcaster) {
+
+		@GetMapping("/stream")
+		SseEmitter stream(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+			return broadcaster.subscribe(lastEventId);
+		}
+	}
+
+}
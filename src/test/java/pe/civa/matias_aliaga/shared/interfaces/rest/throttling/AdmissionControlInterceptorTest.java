@@ -0,0 +1,121 @@
+package pe.civa.matias_aliaga.shared.interfaces.rest.throttling;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+import pe.civa.matias_aliaga.interfaces.rest.exceptions.GlobalExceptionHandler;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class AdmissionControlInterceptorTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final TestController controller = new TestController();
+
+	@Test
+	void rejectsClientsOverTheirRateWithRetryAfter() throws Exception {
+		var mvc = mockMvc(properties(1, 1, ClientKeySource.ADDRESS, Map.of()));
+
+		mvc.perform(get("/api/sync")).andExpect(status().isOk());
+		mvc.perform(get("/api/sync"))
+				.andExpect(status().isTooManyRequests())
+				.andExpect(header().string("Retry-After", "1"));
+		mvc.perform(get("/api/sync").with(request -> {
+			request.setRemoteAddr("10.0.0.2");
+			return request;
+		})).andExpect(status().isOk());
+
+		assertEquals(1, meterRegistry.get("civa.admission.rejections").tags("class", "read", "reason", "rate").counter().count());
+	}
+
+	@Test
+	void keysClientsByApiKeyWhenConfigured() throws Exception {
+		var mvc = mockMvc(properties(1, 1, ClientKeySource.API_KEY, Map.of()));
+
+		mvc.perform(get("/api/sync").header("X-Api-Key", "first")).andExpect(status().isOk());
+		mvc.perform(get("/api/sync").header("X-Api-Key", "second")).andExpect(status().isOk());
+		mvc.perform(get("/api/sync").header("X-Api-Key", "first")).andExpect(status().isTooManyRequests());
+	}
+
+	@Test
+	void releasesThePermitWhenTheRequestCompletes() throws Exception {
+		var mvc = mockMvc(properties(1000, 1000, ClientKeySource.ADDRESS, Map.of(EndpointClass.READ, 1)));
+
+		for (int i = 0; i < 3; i++) mvc.perform(get("/api/sync")).andExpect(status().isOk());
+		mvc.perform(get("/api/failing")).andExpect(status().isInternalServerError());
+
+		assertEquals(0, inFlight());
+		mvc.perform(get("/api/sync")).andExpect(status().isOk());
+	}
+
+	@Test
+	void holdsThePermitUntilTheAsyncDispatchCompletes() throws Exception {
+		var mvc = mockMvc(properties(1000, 1000, ClientKeySource.ADDRESS, Map.of(EndpointClass.READ, 1)));
+
+		var started = mvc.perform(get("/api/async")).andExpect(request().asyncStarted()).andReturn();
+		assertEquals(1, inFlight());
+		mvc.perform(get("/api/sync"))
+				.andExpect(status().isTooManyRequests())
+				.andExpect(header().string("Retry-After", "1"));
+
+		controller.pending.setResult("done");
+		mvc.perform(asyncDispatch(started)).andExpect(status().isOk());
+
+		assertEquals(0, inFlight());
+		mvc.perform(get("/api/sync")).andExpect(status().isOk());
+	}
+
+	private MockMvc mockMvc(AdmissionControlProperties properties) {
+		return MockMvcBuilders.standaloneSetup(controller)
+				.setControllerAdvice(new GlobalExceptionHandler())
+				.addMappedInterceptors(new String[] {"/api/**"}, new AdmissionControlInterceptor(properties, meterRegistry))
+				.build();
+	}
+
+	private double inFlight() {
+		return meterRegistry.get("civa.admission.in.flight").tag("class", "read").gauge().value();
+	}
+
+	private static AdmissionControlProperties properties(double rate, int burst, ClientKeySource source,
+														 Map<EndpointClass, Integer> concurrency) {
+		return new AdmissionControlProperties(true,
+				new AdmissionControlProperties.RateLimit(rate, burst, 1000),
+				new AdmissionControlProperties.ClientKey(source, "X-Api-Key"),
+				concurrency,
+				Duration.ofSeconds(1));
+	}
+
+	@RestController
+	static class TestController {
+
+		private DeferredResult<String> pending;
+
+		@GetMapping("/api/sync")
+		String sync() {
+			return "ok";
+		}
+
+		@GetMapping("/api/failing")
+		String failing() {
+			throw new IllegalStateException("Failing on purpose");
+		}
+
+		@GetMapping("/api/async")
+		DeferredResult<String> async() {
+			pending = new DeferredResult<>();
+			return pending;
+		}
+	}
+
+}